@@ -0,0 +1,86 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.BalanceStore;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소별 메모리 사용량과 조회/저장 비용 측정
+ * - table : ZeroLatencyUserPointTable (Map<Long, UserPoint>) 를 감싼 저장소
+ * - primitive / primitive-off-heap : PrimitiveBalanceStore
+ * - 사용자 수만큼 채운 뒤 늘어난 힙 + direct 메모리를 footprint 로 출력합니다. 할당량은 jmhJar 실행 시 -prof gc 로 확인합니다.
+ * - 10M 사용자의 table 은 수 GB 를 사용하므로 힙을 8g 로 지정해 fork 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-XX:MaxDirectMemorySize=4g"})
+@Threads(4)
+public class BalanceStoreBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int users;
+
+    @Param({"table", "primitive", "primitive-off-heap"})
+    private String store;
+
+    private BalanceStore balanceStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        balanceStore = null;
+        long before = usedMemory();
+        balanceStore = switch (store) {
+            case "table" -> new UserPointTableBalanceStore(new ZeroLatencyUserPointTable());
+            case "primitive" -> new PrimitiveBalanceStore(users, false);
+            case "primitive-off-heap" -> new PrimitiveBalanceStore(users, true);
+            default -> throw new IllegalArgumentException("unknown store: " + store);
+        };
+        for (long userId = 0; userId < users; userId++) {
+            balanceStore.save(userId, userId);
+        }
+        long footprint = usedMemory() - before;
+        System.out.printf("%nfootprint: store = %s, users = %,d, bytes = %,d (%.1f bytes/user)%n",
+                store, users, footprint, (double) footprint / users);
+    }
+
+    @Benchmark
+    public UserPoint findById() {
+        return balanceStore.findById(ThreadLocalRandom.current().nextLong(users));
+    }
+
+    @Benchmark
+    public UserPoint save() {
+        long userId = ThreadLocalRandom.current().nextLong(users);
+        return balanceStore.save(userId, userId + 1);
+    }
+
+    private static long usedMemory() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        long direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+        return runtime.totalMemory() - runtime.freeMemory() + direct;
+    }
+}
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 내역 조회 비용 측정
+ * - index : PointHistoryIndex 로 한 사용자(내역 100 건)를 조회
+ * - fullScan : PointHistoryTable 과 같이 전체 목록을 필터링하여 조회
+ * - 전체 내역(rows)이 늘어나도 index 의 조회 비용은 일정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HistoryIndexBenchmark {
+
+    private static final long TARGET_USER_ID = 0L;
+    private static final int TARGET_HISTORY_COUNT = 100;
+
+    @Param({"10000", "100000", "1000000", "2000000"})
+    private int rows;
+
+    private List<PointHistory> table;
+    private PointHistoryIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = new ArrayList<>(rows);
+        index = new PointHistoryIndex();
+        int step = rows / TARGET_HISTORY_COUNT;
+        for (int id = 1; id <= rows; id++) {
+            long userId = id % step == 0 ? TARGET_USER_ID : 1 + id % 10_000;
+            PointHistory history = new PointHistory(id, userId, 100L, TransactionType.CHARGE, id);
+            table.add(history);
+            index.appendOrCreate(history);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> index() {
+        return index.findAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> fullScan() {
+        return table.stream().filter(history -> history.userId() == TARGET_USER_ID).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.ColumnarHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 저장소별 메모리 사용량과 사용자별 조회 비용 측정
+ * - table : PointHistoryTable 과 같은 List<PointHistory> + 사용자별 PointHistoryIndex
+ * - columnar : ColumnarHistoryStore
+ * - 내역을 채운 뒤 늘어난 힙을 footprint 로 출력합니다. 할당량은 jmhJar 실행 시 -prof gc 로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HistoryStoreBenchmark {
+
+    private static final int USERS = 10_000;
+
+    @Param({"1000000", "5000000"})
+    private int rows;
+
+    @Param({"table", "columnar"})
+    private String store;
+
+    private List<PointHistory> table;
+    private PointHistoryIndex index;
+    private ColumnarHistoryStore columnar;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = null;
+        index = null;
+        columnar = null;
+        long before = usedMemory();
+        if (store.equals("table")) {
+            table = new ArrayList<>();
+            index = new PointHistoryIndex();
+            for (int id = 1; id <= rows; id++) {
+                PointHistory history = new PointHistory(id, id % USERS, 100L, TransactionType.CHARGE, id);
+                table.add(history);
+                index.appendOrCreate(history);
+            }
+        } else if (store.equals("columnar")) {
+            columnar = new ColumnarHistoryStore();
+            for (int id = 1; id <= rows; id++) {
+                columnar.insert(id % USERS, 100L, TransactionType.CHARGE, id, history -> { });
+            }
+        } else {
+            throw new IllegalArgumentException("unknown store: " + store);
+        }
+        long footprint = usedMemory() - before;
+        System.out.printf("%nfootprint: store = %s, rows = %,d, bytes = %,d (%.1f bytes/row)%n",
+                store, rows, footprint, (double) footprint / rows);
+    }
+
+    @Benchmark
+    public List<PointHistory> findAllByUserId() {
+        long userId = ThreadLocalRandom.current().nextLong(USERS);
+        return columnar != null ? columnar.findAllByUserId(userId) : index.findAllByUserId(userId);
+    }
+
+    private static long usedMemory() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.execution.PointExecutionMode;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PARTITION 모드의 파티션 수에 따른 처리량 벤치마크
+ * - 사용자는 UNIFORM 분포이며, 클라이언트 스레드 64 개가 chargeAsync 를 호출하고 결과를 기다립니다.
+ * - 파티션마다 스레드가 하나이므로 동시에 처리되는 요청 수는 파티션 수로 제한됩니다.
+ *   table 에서 처리량이 파티션 수에 비례하는 것은 테이블 호출 지연을 동시에 기다리는 스레드가 늘기 때문이며, 클라이언트 스레드 수를 넘지 못합니다.
+ * - mode : PARTITION 과 기준선 LOCK(호출 스레드에서 사용자 락으로 처리, 동시 처리 수는 클라이언트 스레드 수)
+ *   LOCK 은 partitions 와 무관하므로 파티션 수마다 같은 기준선이 측정됩니다.
+ * - latency : table(기본) 은 실제 테이블(throttle 포함)로 호출 지연이 처리량을 결정합니다.
+ *   zero 는 지연 없는 테이블 대역으로 CPU 코어 수 이상으로는 늘지 않으며, -p latency=zero 로 지정합니다.
+ * - 실제 테이블은 잔액을 미리 채우면 오래 걸리므로 빈 잔액에서 충전만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class PartitionScalingBenchmark {
+
+    private static final int USERS = 10_000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int partitions;
+
+    @Param({"table"})
+    public String latency;
+
+    @Param({"PARTITION", "LOCK"})
+    public PointExecutionMode mode;
+
+    private PointService pointService;
+    private PointExecutor pointExecutor;
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean zero = "zero".equals(latency);
+        UserPointTable userPointTable = zero ? new ZeroLatencyUserPointTable() : new UserPointTable();
+        PointHistoryTable pointHistoryTable = zero ? new ZeroLatencyPointHistoryTable() : new PointHistoryTable();
+
+        pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable, PointMetrics.simple()),
+                true, 10_000, 100, PointMetrics.simple());
+        pointExecutor = new PointExecutor(mode, 256, partitions, PointMetrics.simple());
+        pointService = new PointService(new UserPointRepository(userPointTable), pointHistoryRepository,
+                new PointServiceBenchmark.UnboundedPointValidator(), new UserLockManager(), pointExecutor,
+                PointMetrics.simple(), PointWriteAheadLog.disabled());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointExecutor.shutdown();
+        pointHistoryRepository.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Users {
+        private long[] userIds;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            userIds = UserDistribution.UNIFORM.sample(USERS, 1 << 16, threadParams.getThreadIndex());
+        }
+
+        long next() {
+            long userId = userIds[next];
+            next = (next + 1) & (userIds.length - 1);
+            return userId;
+        }
+    }
+
+    @Benchmark
+    public Object chargeAsync(Users users) {
+        return pointService.chargeAsync(users.next(), 1L).join();
+    }
+}
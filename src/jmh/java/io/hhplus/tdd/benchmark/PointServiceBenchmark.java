@@ -0,0 +1,142 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.execution.PointExecutionMode;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 처리량 벤치마크
+ * - distribution : 사용자 분포 (SINGLE 경합 / UNIFORM / ZIPF 쏠림)
+ * - latency : zero 는 지연 없는 테이블 대역, table 은 실제 테이블(throttle 포함)
+ *   (./gradlew jmh 는 zero 만 실행하며, table 은 jmhJar 실행 시 -p latency=table 로 지정합니다.)
+ * - mode : chargeAsync 의 실행 방식 (LOCK 기준선과 CAS 를 함께 실행합니다.
+ *   COALESCE 는 -p mode=COALESCE 로 지정하며, SINGLE + table 에서 묶음 효과가 드러납니다.)
+ * - 잔액 한도/부족으로 실패하지 않도록 한도 검사를 끄고 사용자 잔액을 충분히 채워 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PointServiceBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int HISTORIES_PER_USER = 10;
+    private static final long INITIAL_BALANCE = Long.MAX_VALUE / 2;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPF"})
+    public UserDistribution distribution;
+
+    @Param({"zero"})
+    public String latency;
+
+    @Param({"LOCK", "CAS"})
+    public PointExecutionMode mode;
+
+    private PointService pointService;
+    private PointExecutor pointExecutor;
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean zero = "zero".equals(latency);
+        UserPointTable userPointTable = zero ? new ZeroLatencyUserPointTable() : new UserPointTable();
+        PointHistoryTable pointHistoryTable = zero ? new ZeroLatencyPointHistoryTable() : new PointHistoryTable();
+
+        int seededUsers = distribution == UserDistribution.SINGLE ? 1 : USERS;
+        for (long userId = 1; userId <= seededUsers; userId++) {
+            userPointTable.insertOrUpdate(userId, INITIAL_BALANCE);
+            for (int i = 0; i < HISTORIES_PER_USER; i++) {
+                pointHistoryTable.insert(userId, 1L, TransactionType.CHARGE, System.currentTimeMillis());
+            }
+        }
+
+        pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable, PointMetrics.simple()),
+                true, 10_000, 100, PointMetrics.simple());
+        pointExecutor = new PointExecutor(mode);
+        pointService = new PointService(new UserPointRepository(userPointTable), pointHistoryRepository,
+                new UnboundedPointValidator(), new UserLockManager(), pointExecutor, PointMetrics.simple(),
+                PointWriteAheadLog.disabled());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointService.close();
+        pointExecutor.shutdown();
+        pointHistoryRepository.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Users {
+        private long[] userIds;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(PointServiceBenchmark benchmark, ThreadParams threadParams) {
+            userIds = benchmark.distribution.sample(USERS, 1 << 16, threadParams.getThreadIndex());
+        }
+
+        long next() {
+            long userId = userIds[next];
+            next = (next + 1) & (userIds.length - 1);
+            return userId;
+        }
+    }
+
+    @Benchmark
+    public Object charge(Users users) {
+        return pointService.charge(users.next(), 1L);
+    }
+
+    @Benchmark
+    public Object chargeAsync(Users users) {
+        return pointService.chargeAsync(users.next(), 1L).join();
+    }
+
+    @Benchmark
+    public Object use(Users users) {
+        return pointService.use(users.next(), 1L);
+    }
+
+    @Benchmark
+    public Object selectPoint(Users users) {
+        return pointService.selectPoint(users.next());
+    }
+
+    @Benchmark
+    public Object selectPointHistory(Users users) {
+        return pointService.selectPointHistory(users.next());
+    }
+
+    /**
+     * 벤치마크 중 충전이 한도에 막히지 않도록 최대 잔액 검사만 생략
+     */
+    static class UnboundedPointValidator extends PointValidator {
+        @Override
+        public void validateMaxBalance(long currentBalance, long amount) {
+        }
+    }
+}
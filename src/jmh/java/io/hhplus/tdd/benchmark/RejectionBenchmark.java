@@ -0,0 +1,82 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유효성 검사 거절 처리량 벤치마크 (잔액 부족, 최대 한도 초과)
+ * - 지연 없는 테이블 대역을 사용하여 거절 경로(검사, 지표 집계, 예외 전파) 비용만 측정합니다.
+ * - 스레드마다 다른 사용자를 사용하므로 사용자 락 경합은 없습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RejectionBenchmark {
+
+    private PointService pointService;
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryRepository = new PointHistoryRepository(
+                new TableHistoryStore(new ZeroLatencyPointHistoryTable(), PointMetrics.simple()),
+                true, 10_000, 100, PointMetrics.simple());
+        pointService = new PointService(new UserPointRepository(new ZeroLatencyUserPointTable()), pointHistoryRepository,
+                new PointValidator(), new UserLockManager(), new PointExecutor(), PointMetrics.simple(),
+                PointWriteAheadLog.disabled());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pointHistoryRepository.close();
+    }
+
+    @State(Scope.Thread)
+    public static class User {
+        private long userId;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            userId = threadParams.getThreadIndex() + 1;
+        }
+    }
+
+    @Benchmark
+    public Object useInsufficientPoint(User user) {
+        try {
+            return pointService.use(user.userId, 1_000L);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object chargeOverMaxBalance(User user) {
+        try {
+            return pointService.charge(user.userId, 20_000L);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
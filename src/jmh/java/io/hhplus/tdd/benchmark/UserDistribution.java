@@ -0,0 +1,64 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 요청의 사용자 분포
+ * - SINGLE : 모든 요청이 한 사용자에게 몰림 (최대 경합)
+ * - UNIFORM : 모든 사용자에게 고르게 분산
+ * - ZIPF : 소수의 사용자에게 요청이 몰림 (s = 1.1)
+ */
+public enum UserDistribution {
+    SINGLE, UNIFORM, ZIPF;
+
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    /**
+     * 분포에 따라 미리 뽑아 둔 userId 배열
+     * - 측정 중에는 배열을 순환하여 난수 생성 비용을 제외합니다.
+     * @param users 사용자 수
+     * @param size 배열 크기
+     * @param seed
+     * @return userId 배열 (1 부터 users 까지)
+     */
+    public long[] sample(int users, int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] userIds = new long[size];
+        double[] cumulative = this == ZIPF ? zipfCumulative(users) : null;
+        for (int i = 0; i < size; i++) {
+            userIds[i] = switch (this) {
+                case SINGLE -> 1L;
+                case UNIFORM -> 1L + random.nextInt(users);
+                case ZIPF -> 1L + search(cumulative, random.nextDouble());
+            };
+        }
+        return userIds;
+    }
+
+    private static double[] zipfCumulative(int users) {
+        double[] cumulative = new double[users];
+        double sum = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < users; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int search(double[] cumulative, double value) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
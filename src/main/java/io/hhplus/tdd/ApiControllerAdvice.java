@@ -1,22 +1,55 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.deadline.PointDeadlineExceededException;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyReusedException;
+import io.hhplus.tdd.point.validator.PointValidationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 
+    private final ApiErrorResponses apiErrorResponses = new ApiErrorResponses();
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+        return apiErrorResponses.exception();
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
-        return ResponseEntity
-                .badRequest()
-                .body(new ErrorResponse("INVALID_AMOUNT", e.getMessage()));
+        return apiErrorResponses.illegalArgument(e);
+    }
+
+    @ExceptionHandler(PointValidationException.class)
+    public ResponseEntity<ErrorResponse> handlePointValidation(PointValidationException e) {
+        return apiErrorResponses.pointValidation(e);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return apiErrorResponses.idempotencyKeyReused(e);
+    }
+
+    @ExceptionHandler(PointOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handlePointOverloaded(PointOverloadedException e) {
+        return apiErrorResponses.pointOverloaded(e);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return apiErrorResponses.rejectedExecution(e);
+    }
+
+    @ExceptionHandler(PointDeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(PointDeadlineExceededException e) {
+        return apiErrorResponses.deadlineExceeded(e);
     }
 }
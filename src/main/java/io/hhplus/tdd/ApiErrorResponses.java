@@ -0,0 +1,74 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.deadline.PointDeadlineExceededException;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyReusedException;
+import io.hhplus.tdd.point.validator.PointRejectReason;
+import io.hhplus.tdd.point.validator.PointValidationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 예외별 오류 응답 (ApiControllerAdvice 와 ReactiveApiControllerAdvice 가 함께 사용)
+ * - 서블릿과 리액티브 API 의 오류 코드와 상태가 달라지지 않도록 응답은 여기서만 만듭니다.
+ */
+class ApiErrorResponses {
+
+    // 작업 대기열이 가득 차 거절된 요청은 곧 다시 받을 수 있으므로 짧게 기다린 뒤 다시 시도하게 합니다.
+    private static final long REJECTED_RETRY_AFTER_SECONDS = 1;
+
+    private final Map<PointRejectReason, ResponseEntity<ErrorResponse>> rejections = new ConcurrentHashMap<>();
+
+    ResponseEntity<ErrorResponse> exception() {
+        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+    }
+
+    ResponseEntity<ErrorResponse> illegalArgument(IllegalArgumentException e) {
+        return ResponseEntity
+                .badRequest()
+                .body(new ErrorResponse("INVALID_AMOUNT", e.getMessage()));
+    }
+
+    // 유효성 검사 거절은 사유별 메시지가 고정이므로, 사유마다 한 번 만든 응답을 다시 사용합니다.
+    ResponseEntity<ErrorResponse> pointValidation(PointValidationException e) {
+        ResponseEntity<ErrorResponse> response = rejections.get(e.reason());
+        if (response == null) {
+            response = illegalArgument(e);
+            rejections.putIfAbsent(e.reason(), response);
+        }
+        return response;
+    }
+
+    ResponseEntity<ErrorResponse> idempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("IDEMPOTENCY_KEY_REUSED", e.getMessage()));
+    }
+
+    ResponseEntity<ErrorResponse> pointOverloaded(PointOverloadedException e) {
+        return tooManyRequests(e.retryAfterSeconds(), e.getMessage());
+    }
+
+    // 실행기(리액티브 스케줄러, 워커 스레드)의 대기열이 가득 찬 경우입니다.
+    ResponseEntity<ErrorResponse> rejectedExecution(RejectedExecutionException e) {
+        return tooManyRequests(REJECTED_RETRY_AFTER_SECONDS, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    ResponseEntity<ErrorResponse> deadlineExceeded(PointDeadlineExceededException e) {
+        return ResponseEntity
+                .status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(new ErrorResponse("DEADLINE_EXCEEDED", e.getMessage()));
+    }
+
+    private static ResponseEntity<ErrorResponse> tooManyRequests(long retryAfterSeconds, String message) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("TOO_MANY_REQUESTS", message));
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.deadline.PointDeadlineExceededException;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyReusedException;
+import io.hhplus.tdd.point.validator.PointValidationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * ApiControllerAdvice 의 리액티브 버전 (spring.main.web-application-type: reactive 일 때만 등록)
+ * - 오류 응답은 ApiControllerAdvice 와 같은 ApiErrorResponses 로 만듭니다.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+class ReactiveApiControllerAdvice extends ResponseEntityExceptionHandler {
+
+    private final ApiErrorResponses apiErrorResponses = new ApiErrorResponses();
+
+    @ExceptionHandler(value = Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        return apiErrorResponses.exception();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        return apiErrorResponses.illegalArgument(e);
+    }
+
+    @ExceptionHandler(PointValidationException.class)
+    public ResponseEntity<ErrorResponse> handlePointValidation(PointValidationException e) {
+        return apiErrorResponses.pointValidation(e);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        return apiErrorResponses.idempotencyKeyReused(e);
+    }
+
+    @ExceptionHandler(PointOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handlePointOverloaded(PointOverloadedException e) {
+        return apiErrorResponses.pointOverloaded(e);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return apiErrorResponses.rejectedExecution(e);
+    }
+
+    @ExceptionHandler(PointDeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(PointDeadlineExceededException e) {
+        return apiErrorResponses.deadlineExceeded(e);
+    }
+}
@@ -1,21 +1,55 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.admission.AdmissionControl;
+import io.hhplus.tdd.point.deadline.Deadline;
+import io.hhplus.tdd.point.export.ExportFormat;
+import io.hhplus.tdd.point.export.PointExporter;
+import io.hhplus.tdd.point.hotkey.HotKeyTracker;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.hhplus.tdd.point.PointService;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
     private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyCache idempotencyCache;
+    private final PointExporter pointExporter;
+    private final AdmissionControl admissionControl;
+    private final HotKeyTracker hotKeyTracker;
+    private final long defaultTimeoutMillis;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, ObjectMapper objectMapper, IdempotencyCache idempotencyCache,
+                           PointExporter pointExporter, AdmissionControl admissionControl, HotKeyTracker hotKeyTracker,
+                           @Value("${point.deadline.default-timeout-millis:3000}") long defaultTimeoutMillis) {
         this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.idempotencyCache = idempotencyCache;
+        this.pointExporter = pointExporter;
+        this.admissionControl = admissionControl;
+        this.hotKeyTracker = hotKeyTracker;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
     }
 
     /**
@@ -23,6 +57,7 @@ public class PointController {
      */
     @GetMapping("{id}")
     public UserPoint point( @PathVariable("id") long id ) {
+        hotKeyTracker.record(id);
         return pointService.selectPoint(id);
     }
 
@@ -36,25 +71,168 @@ public class PointController {
         return pointService.selectPointHistory(id);
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 커서 기준으로 나누어 조회
+     * - after : 이전 페이지의 nextCursor (처음이면 생략)
+     */
+    @GetMapping(value = "{id}/histories", params = "limit")
+    public PointHistoryPage historyPage(
+            @PathVariable("id") long id,
+            @RequestParam(value = "after", defaultValue = "0") long after,
+            @RequestParam("limit") int limit
+    ) {
+        return pointService.selectPointHistoryPage(id, after, limit);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 시간 구간으로 조회
+     * - from 이상 to 미만의 updateMillis 를 가진 내역을 시간 순서대로 반환합니다.
+     */
+    @GetMapping(value = "{id}/histories", params = {"from", "to"})
+    public List<PointHistory> historyBetween(
+            @PathVariable("id") long id,
+            @RequestParam("from") long from,
+            @RequestParam("to") long to
+    ) {
+        return pointService.selectPointHistoryBetween(id, from, to);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 한 줄에 한 건씩(NDJSON) 스트리밍
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody historyStream(
+            @PathVariable("id") long id,
+            @RequestParam(value = "after", defaultValue = "0") long after
+    ) {
+        pointService.validateUser(id);
+        return ndjson(action -> pointService.streamPointHistory(id, after, action));
+    }
+
+    /**
+     * 전체 유저의 포인트 충전/이용 내역을 시간 구간으로 한 줄에 한 건씩(NDJSON) 스트리밍 (배치 작업용)
+     */
+    @GetMapping(value = "histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody historyStreamBetween(
+            @RequestParam("from") long from,
+            @RequestParam("to") long to
+    ) {
+        pointService.validateTimeRange(from, to);
+        return ndjson(action -> pointService.streamPointHistoryBetween(from, to, action));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 요약 (충전 합계, 사용 합계, 건수, 마지막 시각)
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable("id") long id
+    ) {
+        return pointService.selectPointSummary(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 요약을 전체 내역으로 다시 계산
+     */
+    @PostMapping("{id}/summary/rebuild")
+    public PointSummary rebuildSummary(
+            @PathVariable("id") long id
+    ) {
+        return pointService.rebuildPointSummary(id);
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - Idempotency-Key 가 같은 재시도는 다시 충전하지 않고 처음 결과를 돌려줍니다.
+     * - 처리 중인 요청이 한도를 넘으면 429 (Retry-After) 로 거절합니다.
+     * - Request-Timeout-Millis (없으면 기본값) 안에 처리하지 못하면 잔액을 바꾸지 않고 504 로 응답합니다.
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<UserPoint> charge(
             @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "Request-Timeout-Millis", required = false) Long timeoutMillis,
             @RequestBody long amount
     ) {
-        return pointService.charge(id, amount);
+        hotKeyTracker.record(id);
+        Deadline deadline = deadline(timeoutMillis);
+        return idempotencyCache.execute(idempotencyKey, id, TransactionType.CHARGE, amount,
+                () -> admissionControl.execute(id, () -> pointService.chargeAsync(id, amount, deadline)));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - Idempotency-Key 가 같은 재시도는 다시 사용하지 않고 처음 결과를 돌려줍니다.
+     * - 처리 중인 요청이 한도를 넘으면 429 (Retry-After) 로 거절합니다.
+     * - Request-Timeout-Millis (없으면 기본값) 안에 처리하지 못하면 잔액을 바꾸지 않고 504 로 응답합니다.
      */
     @PatchMapping("{id}/use")
-    public  UserPoint use(
+    public  CompletableFuture<UserPoint> use(
             @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "Request-Timeout-Millis", required = false) Long timeoutMillis,
             @RequestBody long amount
     ) {
-        return pointService.use(id, amount);
+        hotKeyTracker.record(id);
+        Deadline deadline = deadline(timeoutMillis);
+        return idempotencyCache.execute(idempotencyKey, id, TransactionType.USE, amount,
+                () -> admissionControl.execute(id, () -> pointService.useAsync(id, amount, deadline)));
+    }
+
+    /**
+     * 전체 유저의 포인트 잔액과 충전/이용 내역 내보내기 (일 마감 대사용)
+     * - format : NDJSON(기본) 또는 BINARY
+     */
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format
+    ) {
+        MediaType mediaType = format == ExportFormat.BINARY ? MediaType.APPLICATION_OCTET_STREAM : MediaType.APPLICATION_NDJSON;
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(outputStream -> pointExporter.export(outputStream, format));
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한 번에 처리
+     * - 요청 수가 한도(point.batch.max-size)를 넘으면 400 으로 거절합니다.
+     * - 전체 처리 중인 요청 한도를 한 건, 포함된 유저마다 유저 한도를 한 건씩 차지하며, 한도에 닿으면 429 (Retry-After) 로 거절합니다.
+     * - 유저 단위로 따로 반영하므로, 기한(Request-Timeout-Millis)이 지나거나 저장에 실패한 유저의 요청만 실패로 응답합니다.
+     */
+    @PostMapping("batch")
+    public List<PointOperationResult> batch(
+            @RequestHeader(value = "Request-Timeout-Millis", required = false) Long timeoutMillis,
+            @RequestBody List<PointOperation> operations
+    ) {
+        Deadline deadline = deadline(timeoutMillis);
+        pointService.validateBatchSize(operations.size());
+        Set<Long> userIds = new LinkedHashSet<>();
+        operations.forEach(operation -> {
+            hotKeyTracker.record(operation.userId());
+            userIds.add(operation.userId());
+        });
+        return admissionControl.executeAll(userIds, () -> pointService.applyBatch(operations, deadline));
+    }
+
+    // 요청을 받은 시점부터 기한을 잽니다.
+    private Deadline deadline(Long timeoutMillis) {
+        return Deadline.afterMillis(timeoutMillis != null ? timeoutMillis : defaultTimeoutMillis);
+    }
+
+    private StreamingResponseBody ndjson(Consumer<Consumer<PointHistory>> histories) {
+        return outputStream -> {
+            try {
+                histories.accept(history -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(history));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
     }
 }
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 충전/이용 내역 페이지
+ * - nextCursor : 다음 페이지 조회 시 after 로 넘길 값 (마지막 페이지면 null)
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
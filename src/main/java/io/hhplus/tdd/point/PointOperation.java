@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.deadline.Deadline;
+
+/**
+ * 일괄 처리 요청의 단건 충전/사용
+ * - deadline : 처리 기한 (요청 본문으로 받지 않으며, 없으면 기한 없음)
+ */
+public record PointOperation(
+        long userId,
+        TransactionType type,
+        long amount,
+        Deadline deadline
+) {
+
+    public PointOperation {
+        if (deadline == null) {
+            deadline = Deadline.none();
+        }
+    }
+
+    public PointOperation(long userId, TransactionType type, long amount) {
+        this(userId, type, amount, Deadline.none());
+    }
+
+    /**
+     * 처리 기한을 지정한 같은 요청
+     * @param deadline
+     * @return PointOperation
+     */
+    public PointOperation withDeadline(Deadline deadline) {
+        return new PointOperation(userId, type, amount, deadline);
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청의 단건 결과
+ * - point : 해당 요청을 처리한 직후의 잔액 (실패 시 변경 전 잔액, 저장소 오류로 잔액을 읽지 못했으면 0)
+ * - message : 실패 사유 (유효성 검사 실패, 기한 초과, 저장소 오류)
+ */
+public record PointOperationResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        long point,
+        String message
+) {
+
+    public static PointOperationResult success(PointOperation operation, long point) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), true, point, null);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, long point, String message) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), false, point, message);
+    }
+}
@@ -2,24 +2,69 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.deadline.Deadline;
+import io.hhplus.tdd.point.deadline.DeadlineStage;
+import io.hhplus.tdd.point.deadline.PointDeadlineExceededException;
+import io.hhplus.tdd.point.execution.PointExecutionMode;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.execution.UserRequestCoalescer;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidationException;
 import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
 
 @Service
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
     private final PointValidator pointValidator;
-    private final ReentrantLock lock = new ReentrantLock();
+    private final UserLockManager userLockManager;
+    private final PointExecutor pointExecutor;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final UserRequestCoalescer<PointOperation, UserPoint> userRequestCoalescer;
+    private final BalanceCells balanceCells;
 
 
     public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, PointValidator pointValidator) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+        this(new UserPointRepository(userPointTable), new PointHistoryRepository(pointHistoryTable),
+                pointValidator, new UserLockManager(), new PointExecutor(), PointMetrics.simple(),
+                PointWriteAheadLog.disabled());
+    }
+
+    @Autowired
+    public PointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                        PointValidator pointValidator, UserLockManager userLockManager, PointExecutor pointExecutor,
+                        PointMetrics pointMetrics, PointWriteAheadLog pointWriteAheadLog) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
         this.pointValidator = pointValidator;
+        this.userLockManager = userLockManager;
+        this.pointExecutor = pointExecutor;
+        this.pointMetrics = pointMetrics;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.userRequestCoalescer = pointExecutor.mode() == PointExecutionMode.COALESCE
+                ? pointExecutor.coalescer(this::applyCoalesced) : null;
+        this.balanceCells = pointExecutor.mode() == PointExecutionMode.CAS
+                ? new BalanceCells(userPointRepository) : null;
     }
 
     /**
@@ -28,9 +73,9 @@ public class PointService {
      * @return 조회한 UserPoint
      */
     public UserPoint selectPoint(long userId) {
-
-        UserPoint userPoint = userPointTable.selectById(userId);
-        pointValidator.validateUserPoint(userPoint);
+        // CAS 모드에서는 저장소 반영이 늦을 수 있으므로 잔액 셀을 기준으로 조회합니다.
+        UserPoint userPoint = balanceCells != null ? balanceCells.get(userId) : userPointRepository.findById(userId);
+        validate(() -> pointValidator.validateUserPoint(userPoint));
 
         return userPoint;
     }
@@ -42,10 +87,119 @@ public class PointService {
      */
     public List<PointHistory> selectPointHistory(long userId) {
 
-        UserPoint userPoint = userPointTable.selectById(userId);
-        pointValidator.validateUserPoint(userPoint);
+        UserPoint userPoint = userPointRepository.findById(userId);
+        validate(() -> pointValidator.validateUserPoint(userPoint));
+
+        return pointHistoryRepository.findAllByUserId(userId);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 커서 기준으로 나누어 조회하는 기능
+     * @param userId
+     * @param after 이전 페이지의 nextCursor (처음이면 0)
+     * @param limit
+     * @return 조회한 PointHistoryPage
+     */
+    public PointHistoryPage selectPointHistoryPage(long userId, long after, int limit) {
+
+        UserPoint userPoint = userPointRepository.findById(userId);
+        validate(() -> {
+            pointValidator.validateUserPoint(userPoint);
+            pointValidator.validatePageSize(limit);
+        });
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 확인합니다.
+        List<PointHistory> histories = pointHistoryRepository.findPageByUserId(userId, after, limit + 1);
+        if (histories.size() <= limit) {
+            return new PointHistoryPage(histories, null);
+        }
+        List<PointHistory> page = histories.subList(0, limit);
+        return new PointHistoryPage(page, page.get(limit - 1).id());
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 시간 구간으로 조회하는 기능
+     * @param userId
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     * @return 시간 순서의 List<PointHistory>
+     */
+    public List<PointHistory> selectPointHistoryBetween(long userId, long fromMillis, long toMillis) {
+
+        UserPoint userPoint = userPointRepository.findById(userId);
+        validate(() -> {
+            pointValidator.validateUserPoint(userPoint);
+            pointValidator.validateTimeRange(fromMillis, toMillis);
+        });
+
+        return pointHistoryRepository.findByUserIdBetween(userId, fromMillis, toMillis);
+    }
+
+    /**
+     * 전체 유저의 포인트 충전/이용 내역을 시간 구간으로 전달하는 기능 (배치 작업용, 사용자별 시간 순서)
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     * @param action
+     */
+    public void streamPointHistoryBetween(long fromMillis, long toMillis, Consumer<PointHistory> action) {
+        pointHistoryRepository.forEachBetween(fromMillis, toMillis, action);
+    }
+
+    /**
+     * 조회 시간 구간 검증
+     * - 스트리밍 응답은 응답을 시작한 뒤에는 오류 상태를 돌려줄 수 없으므로 먼저 검증합니다.
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     */
+    public void validateTimeRange(long fromMillis, long toMillis) {
+        validate(() -> pointValidator.validateTimeRange(fromMillis, toMillis));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 목록으로 만들지 않고 순서대로 전달하는 기능
+     * @param userId
+     * @param after 이 id 다음 내역부터 전달 (처음부터면 0)
+     * @param action
+     */
+    public void streamPointHistory(long userId, long after, Consumer<PointHistory> action) {
+        pointHistoryRepository.forEachByUserId(userId, after, action);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 요약을 조회하는 기능
+     * - 기록할 때마다 갱신된 요약을 반환하므로 내역 수와 관계없이 일정한 비용으로 조회합니다.
+     * @param userId
+     * @return 조회한 PointSummary
+     */
+    public PointSummary selectPointSummary(long userId) {
+
+        UserPoint userPoint = userPointRepository.findById(userId);
+        validate(() -> pointValidator.validateUserPoint(userPoint));
+
+        return pointHistoryRepository.findSummaryByUserId(userId);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 요약을 전체 내역으로 다시 계산하는 기능
+     * @param userId
+     * @return 다시 계산한 PointSummary
+     */
+    public PointSummary rebuildPointSummary(long userId) {
+
+        UserPoint userPoint = userPointRepository.findById(userId);
+        validate(() -> pointValidator.validateUserPoint(userPoint));
+
+        return pointHistoryRepository.rebuildSummary(userId);
+    }
 
-        return pointHistoryTable.selectAllByUserId(userId);
+    /**
+     * 특정 유저의 포인트 존재 여부 검증
+     * - 스트리밍 응답은 응답을 시작한 뒤에는 오류 상태를 돌려줄 수 없으므로 먼저 검증합니다.
+     * @param userId
+     */
+    public void validateUser(long userId) {
+        UserPoint userPoint = userPointRepository.findById(userId);
+        validate(() -> pointValidator.validateUserPoint(userPoint));
     }
 
     /**
@@ -55,22 +209,50 @@ public class PointService {
      * @return 충전 UserPoint
      */
     public UserPoint charge(long userId, long amount) {
-        lock.lock();
+        return charge(userId, amount, Deadline.none());
+    }
+
+    /**
+     * 특정 유저의 포인트를 기한 안에서 충전하는 기능
+     * - 기한이 지나면 락 대기를 멈추고, 잔액을 저장하기 전에 포기합니다. (PointDeadlineExceededException)
+     * @param userId
+     * @param amount
+     * @param deadline
+     * @return 충전 UserPoint
+     */
+    public UserPoint charge(long userId, long amount, Deadline deadline) {
+        checkDeadline(userId, deadline, DeadlineStage.QUEUED);
+        if (balanceCells != null) {
+            LockFreeResult result = applyLockFree(userId, TransactionType.CHARGE, amount);
+            pointWriteAheadLog.awaitDurable(result.sequence());
+            return new UserPoint(userId, result.balance(), result.updateMillis());
+        }
+        UserPoint charged;
+        long sequence;
+        lock(userId, deadline);
         try {
-            UserPoint userPoint = userPointTable.selectById(userId);
-            pointValidator.validateCharge(amount);
-            pointValidator.validateMaxBalance(userPoint.point(), amount);
+            UserPoint userPoint = userPointRepository.findById(userId);
+            validate(() -> {
+                pointValidator.validateCharge(amount);
+                pointValidator.validateMaxBalance(userPoint.point(), amount);
+            });
+            checkDeadline(userId, deadline, DeadlineStage.WRITE);
 
             long newAmount = userPoint.point() + amount;
-            userPointTable.insertOrUpdate(userId, newAmount);
-
             long currentTime = System.currentTimeMillis();
-            pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, currentTime);
+            userPointRepository.save(userId, newAmount);
+            sequence = appendOrRestore(userPoint,
+                    () -> pointWriteAheadLog.append(userId, amount, TransactionType.CHARGE, currentTime));
+            pointHistoryRepository.record(userId, amount, TransactionType.CHARGE, currentTime);
 
-            return new UserPoint(userId, newAmount, currentTime);
+            charged = new UserPoint(userId, newAmount, currentTime);
         }finally {
-            lock.unlock();
+            userLockManager.unlock(userId);
         }
+        // 디스크 반영은 락을 놓은 뒤 기다려 같은 유저의 다음 요청이 함께 기록될 수 있게 합니다.
+        pointWriteAheadLog.awaitDurable(sequence);
+        recordLate(deadline);
+        return charged;
     }
 
     /**
@@ -80,18 +262,458 @@ public class PointService {
      * @return 사용 UserPoint
      */
     public  UserPoint use(long userId, long amount) {
-        lock.lock();
-        try {
-            UserPoint userPoint = userPointTable.selectById(userId);
-            pointValidator.validateUse(userPoint, amount);
+        return use(userId, amount, Deadline.none());
+    }
 
-            userPointTable.insertOrUpdate(userId, userPoint.point() - amount);
+    /**
+     * 특정 유저의 포인트를 기한 안에서 사용하는 기능
+     * - 기한이 지나면 락 대기를 멈추고, 잔액을 저장하기 전에 포기합니다. (PointDeadlineExceededException)
+     * @param userId
+     * @param amount
+     * @param deadline
+     * @return 사용 UserPoint
+     */
+    public UserPoint use(long userId, long amount, Deadline deadline) {
+        checkDeadline(userId, deadline, DeadlineStage.QUEUED);
+        if (balanceCells != null) {
+            LockFreeResult result = applyLockFree(userId, TransactionType.USE, amount);
+            pointWriteAheadLog.awaitDurable(result.sequence());
+            return new UserPoint(userId, amount, result.updateMillis());
+        }
+        UserPoint used;
+        long sequence;
+        lock(userId, deadline);
+        try {
+            UserPoint userPoint = userPointRepository.findById(userId);
+            validate(() -> pointValidator.validateUse(userPoint, amount));
+            checkDeadline(userId, deadline, DeadlineStage.WRITE);
 
             long currentTime = System.currentTimeMillis();
-            pointHistoryTable.insert(userId, amount, TransactionType.USE, currentTime);
-            return new UserPoint(userId, amount, currentTime);
+            userPointRepository.save(userId, userPoint.point() - amount);
+            sequence = appendOrRestore(userPoint,
+                    () -> pointWriteAheadLog.append(userId, amount, TransactionType.USE, currentTime));
+            pointHistoryRepository.record(userId, amount, TransactionType.USE, currentTime);
+            used = new UserPoint(userId, amount, currentTime);
         }finally {
-            lock.unlock();
+            userLockManager.unlock(userId);
+        }
+        pointWriteAheadLog.awaitDurable(sequence);
+        recordLate(deadline);
+        return used;
+    }
+
+    /**
+     * 특정 유저의 포인트를 충전하는 기능 (실행 방식에 따라 비동기 처리)
+     * @param userId
+     * @param amount
+     * @return 충전 UserPoint
+     */
+    public CompletableFuture<UserPoint> chargeAsync(long userId, long amount) {
+        return chargeAsync(userId, amount, Deadline.none());
+    }
+
+    /**
+     * 특정 유저의 포인트를 기한 안에서 충전하는 기능 (실행 방식에 따라 비동기 처리)
+     * - COALESCE 모드에서는 기한이 요청과 함께 묶음으로 전달되며, 기한이 지난 요청은 잔액을 저장하기 전에 묶음에서 빠집니다.
+     * @param userId
+     * @param amount
+     * @param deadline
+     * @return 충전 UserPoint
+     */
+    public CompletableFuture<UserPoint> chargeAsync(long userId, long amount, Deadline deadline) {
+        if (userRequestCoalescer != null) {
+            checkDeadline(userId, deadline, DeadlineStage.QUEUED);
+            return userRequestCoalescer.submit(userId, new PointOperation(userId, TransactionType.CHARGE, amount, deadline));
+        }
+        return pointExecutor.execute(userId, () -> charge(userId, amount, deadline));
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용하는 기능 (실행 방식에 따라 비동기 처리)
+     * @param userId
+     * @param amount
+     * @return 사용 UserPoint
+     */
+    public CompletableFuture<UserPoint> useAsync(long userId, long amount) {
+        return useAsync(userId, amount, Deadline.none());
+    }
+
+    /**
+     * 특정 유저의 포인트를 기한 안에서 사용하는 기능 (실행 방식에 따라 비동기 처리)
+     * - COALESCE 모드에서는 기한이 요청과 함께 묶음으로 전달되며, 기한이 지난 요청은 잔액을 저장하기 전에 묶음에서 빠집니다.
+     * @param userId
+     * @param amount
+     * @param deadline
+     * @return 사용 UserPoint
+     */
+    public CompletableFuture<UserPoint> useAsync(long userId, long amount, Deadline deadline) {
+        if (userRequestCoalescer != null) {
+            checkDeadline(userId, deadline, DeadlineStage.QUEUED);
+            return userRequestCoalescer.submit(userId, new PointOperation(userId, TransactionType.USE, amount, deadline));
+        }
+        return pointExecutor.execute(userId, () -> use(userId, amount, deadline));
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한 번에 처리하는 기능
+     * @param operations
+     * @return 요청 순서와 같은 순서의 처리 결과
+     */
+    public List<PointOperationResult> applyBatch(List<PointOperation> operations) {
+        return applyBatch(operations, Deadline.none());
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 기한 안에서 한 번에 처리하는 기능
+     * - 요청 수가 한도(point.batch.max-size)를 넘으면 처리하지 않고 거절합니다. (PointValidationException)
+     * - 유저별로 묶어 요청 순서대로 검증하며, 실패한 요청은 건너뛰고 다음 요청을 계속 처리합니다.
+     * - 유저마다 잔액 조회와 저장은 한 번만 수행하고, 내역은 성공한 요청마다 기록합니다.
+     * - 유저 단위로 따로 반영하므로 묶음 전체가 하나로 반영되지는 않습니다.
+     *   기한 초과나 저장소 오류로 반영하지 못한 유저의 요청은 실패로 응답하고, 다음 유저를 계속 처리합니다.
+     * @param operations
+     * @param deadline
+     * @return 요청 순서와 같은 순서의 처리 결과
+     */
+    public List<PointOperationResult> applyBatch(List<PointOperation> operations, Deadline deadline) {
+        validateBatchSize(operations.size());
+        if (balanceCells != null) {
+            return applyBatchLockFree(operations, deadline);
+        }
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), userId -> new ArrayList<>()).add(i);
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+        long lastSequence = 0;
+        for (Map.Entry<Long, List<Integer>> entry : indexesByUser.entrySet()) {
+            long userId = entry.getKey();
+            List<PointOperation> userOperations = entry.getValue().stream()
+                    .map(i -> operations.get(i).withDeadline(deadline))
+                    .toList();
+            AppliedOperations applied;
+            try {
+                checkDeadline(userId, deadline, DeadlineStage.QUEUED);
+                lock(userId, deadline);
+                try {
+                    applied = applyUserOperations(userId, userOperations);
+                } finally {
+                    userLockManager.unlock(userId);
+                }
+            } catch (RuntimeException e) {
+                applied = AppliedOperations.failed(userOperations.size(), currentBalance(userId), e);
+            }
+            lastSequence = Math.max(lastSequence, applied.sequence);
+            for (int i = 0; i < userOperations.size(); i++) {
+                PointOperation operation = userOperations.get(i);
+                RuntimeException error = applied.errors[i];
+                results[entry.getValue().get(i)] = error == null
+                        ? PointOperationResult.success(operation, applied.balances[i])
+                        : PointOperationResult.failure(operation, applied.balances[i], error.getMessage());
+            }
+        }
+        pointWriteAheadLog.awaitDurable(lastSequence);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 일괄 처리 요청 수 검증
+     * - 처리 중인 요청 수 한도를 차지하기 전에 먼저 검증합니다.
+     * @param size
+     */
+    public void validateBatchSize(int size) {
+        validate(() -> pointValidator.validateBatchSize(size));
+    }
+
+    /**
+     * 잔액 셀의 남은 변경을 저장소에 반영하고 반영 스레드 종료
+     * @throws InterruptedException
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (balanceCells != null) {
+            balanceCells.close();
+        }
+    }
+
+    /**
+     * 잔액 저장소 반영 대기
+     * - CAS 모드의 잔액 셀과 잔액 저장소의 write-behind 가 모두 저장소(UserPointTable)에 최신 잔액을 반영할 때까지 기다립니다.
+     * @throws InterruptedException
+     */
+    public void flushBalances() throws InterruptedException {
+        if (balanceCells != null) {
+            balanceCells.flush();
+        }
+        userPointRepository.flush();
+    }
+
+    // 같은 유저의 대기 요청 묶음을 한 번의 잔액 조회/저장으로 처리하고, 요청마다 charge/use 와 같은 결과를 돌려줍니다. (COALESCE 모드)
+    private void applyCoalesced(long userId, List<UserRequestCoalescer.Request<PointOperation, UserPoint>> requests) {
+        // 기다리는 동안 기한이 지난 요청은 락을 기다리지 않고 포기합니다.
+        List<UserRequestCoalescer.Request<PointOperation, UserPoint>> batch = new ArrayList<>(requests.size());
+        for (UserRequestCoalescer.Request<PointOperation, UserPoint> request : requests) {
+            if (request.payload().deadline().expired()) {
+                pointMetrics.deadlineExceeded(DeadlineStage.QUEUED);
+                request.fail(new PointDeadlineExceededException(userId, DeadlineStage.QUEUED));
+            } else {
+                batch.add(request);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PointOperation> operations = batch.stream().map(UserRequestCoalescer.Request::payload).toList();
+        // 묶음에서 가장 늦은 기한까지만 락을 기다립니다.
+        Deadline lockDeadline = operations.stream().map(PointOperation::deadline).reduce(Deadline::later).orElseThrow();
+        AppliedOperations applied;
+        lock(userId, lockDeadline);
+        try {
+            applied = applyUserOperations(userId, operations);
+        } finally {
+            userLockManager.unlock(userId);
+        }
+        pointWriteAheadLog.awaitDurable(applied.sequence);
+
+        for (int i = 0; i < batch.size(); i++) {
+            PointOperation operation = operations.get(i);
+            if (applied.errors[i] != null) {
+                batch.get(i).fail(applied.errors[i]);
+                continue;
+            }
+            recordLate(operation.deadline());
+            if (operation.type() == TransactionType.CHARGE) {
+                batch.get(i).complete(new UserPoint(userId, applied.balances[i], applied.updateMillis));
+            } else {
+                batch.get(i).complete(new UserPoint(userId, operation.amount(), applied.updateMillis));
+            }
+        }
+    }
+
+    // 유저 락을 잡은 상태에서 요청 순서대로 검증하며, 성공한 요청만 모아 잔액은 한 번 저장하고 내역은 요청마다 기록합니다.
+    // 기한이 지난 요청은 저장 전에 빼므로 잔액과 내역에 반영되지 않습니다.
+    private AppliedOperations applyUserOperations(long userId, List<PointOperation> operations) {
+        UserPoint userPoint = userPointRepository.findById(userId);
+        validate(() -> pointValidator.validateUserPoint(userPoint));
+
+        AppliedOperations result = new AppliedOperations(operations.size());
+        long balance = userPoint.point();
+        List<PointOperation> applied = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperation operation = operations.get(i);
+            if (operation.deadline().expired()) {
+                pointMetrics.deadlineExceeded(DeadlineStage.WRITE);
+                result.errors[i] = new PointDeadlineExceededException(userId, DeadlineStage.WRITE);
+                result.balances[i] = balance;
+                continue;
+            }
+            try {
+                balance = apply(new UserPoint(userId, balance, userPoint.updateMillis()), operation);
+                applied.add(operation);
+            } catch (PointValidationException e) {
+                pointMetrics.rejected(e.reason());
+                result.errors[i] = e;
+            }
+            result.balances[i] = balance;
+        }
+        if (applied.isEmpty()) {
+            return result;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        try {
+            userPointRepository.save(userId, balance);
+            result.sequence = appendOrRestore(userPoint, () -> pointWriteAheadLog.append(userId, applied, currentTime));
+            for (PointOperation operation : applied) {
+                pointHistoryRepository.record(userId, operation.amount(), operation.type(), currentTime);
+            }
+        } catch (RuntimeException e) {
+            // 저장하지 못하면 반영하려던 요청을 모두 같은 사유로 실패 처리합니다.
+            for (int i = 0; i < operations.size(); i++) {
+                if (result.errors[i] == null) {
+                    result.errors[i] = e;
+                    result.balances[i] = userPoint.point();
+                }
+            }
+            return result;
+        }
+        result.updateMillis = currentTime;
+        return result;
+    }
+
+    // CAS 모드에서는 유저별로 묶지 않고 요청마다 잔액 셀을 갱신합니다.
+    private List<PointOperationResult> applyBatchLockFree(List<PointOperation> operations, Deadline deadline) {
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        long lastSequence = 0;
+        for (PointOperation operation : operations) {
+            try {
+                checkDeadline(operation.userId(), deadline, DeadlineStage.WRITE);
+                LockFreeResult result = applyLockFree(operation.userId(), operation.type(), operation.amount());
+                lastSequence = Math.max(lastSequence, result.sequence());
+                results.add(PointOperationResult.success(operation, result.balance()));
+            } catch (PointValidationException | PointDeadlineExceededException e) {
+                long balance = balanceCells.get(operation.userId()).point();
+                results.add(PointOperationResult.failure(operation, balance, e.getMessage()));
+            }
+        }
+        pointWriteAheadLog.awaitDurable(lastSequence);
+        return results;
+    }
+
+    // 사용자 락 없이 잔액 셀을 갱신한 뒤 로그와 내역을 기록합니다. 한도와 잔액 검사는 compare-and-set 재시도마다 다시 수행합니다. (CAS 모드)
+    // 로그와 내역은 셀의 갱신 순서대로 기록하므로, 로그를 재생한 잔액이 셀의 잔액과 같습니다.
+    // 로그를 남기지 못하면 셀이 잔액을 되돌리고, 로그를 남긴 뒤 내역 기록에 실패하면 잔액은 두고 갱신을 마친 뒤 예외를 던집니다. (LOCK 모드와 같음)
+    private LockFreeResult applyLockFree(long userId, TransactionType type, long amount) {
+        validate(() -> pointValidator.validateTransactionType(type));
+        LongFunction<LockFreeResult> commit = balance -> {
+            long currentTime = System.currentTimeMillis();
+            long sequence = pointWriteAheadLog.append(userId, amount, type, currentTime);
+            RuntimeException historyFailure = null;
+            try {
+                pointHistoryRepository.record(userId, amount, type, currentTime);
+            } catch (RuntimeException e) {
+                historyFailure = e;
+            }
+            return new LockFreeResult(balance, currentTime, sequence, historyFailure);
+        };
+        LockFreeResult result = switch (type) {
+            case CHARGE -> {
+                validate(() -> pointValidator.validateCharge(amount));
+                yield updateBalance(userId, current -> {
+                    pointValidator.validateMaxBalance(current, amount);
+                    return current + amount;
+                }, commit);
+            }
+            case USE -> updateBalance(userId, current -> {
+                pointValidator.validateUse(new UserPoint(userId, current, 0), amount);
+                return current - amount;
+            }, commit);
+        };
+        if (result.historyFailure() != null) {
+            throw result.historyFailure();
+        }
+        return result;
+    }
+
+    private <T> T updateBalance(long userId, LongUnaryOperator update, LongFunction<T> commit) {
+        try {
+            return balanceCells.update(userId, update, commit);
+        } catch (PointValidationException e) {
+            pointMetrics.rejected(e.reason());
+            throw e;
+        }
+    }
+
+    // 잔액을 저장한 뒤에 로그를 남겨, 저장에 실패한 변경이 로그에 남지 않게 합니다.
+    // 로그를 남기지 못하면 저장한 잔액을 되돌립니다. (유저 락 안에서 호출)
+    private long appendOrRestore(UserPoint before, LongSupplier append) {
+        try {
+            return append.getAsLong();
+        } catch (RuntimeException e) {
+            try {
+                userPointRepository.save(before.id(), before.point());
+            } catch (RuntimeException restoreFailure) {
+                e.addSuppressed(restoreFailure);
+            }
+            throw e;
+        }
+    }
+
+    private long apply(UserPoint userPoint, PointOperation operation) {
+        pointValidator.validateTransactionType(operation.type());
+        return switch (operation.type()) {
+            case CHARGE -> {
+                pointValidator.validateCharge(operation.amount());
+                pointValidator.validateMaxBalance(userPoint.point(), operation.amount());
+                yield userPoint.point() + operation.amount();
+            }
+            case USE -> {
+                pointValidator.validateUse(userPoint, operation.amount());
+                yield userPoint.point() - operation.amount();
+            }
+        };
+    }
+
+    private void lock(long userId) {
+        long start = System.nanoTime();
+        userLockManager.lock(userId);
+        pointMetrics.recordLockWait(System.nanoTime() - start);
+    }
+
+    // 기한이 있으면 남은 시간만큼만 기다립니다.
+    private void lock(long userId, Deadline deadline) {
+        if (!deadline.bounded()) {
+            lock(userId);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean locked = userLockManager.tryLock(userId, deadline.remainingNanos());
+        pointMetrics.recordLockWait(System.nanoTime() - start);
+        if (!locked) {
+            pointMetrics.deadlineExceeded(DeadlineStage.LOCK);
+            throw new PointDeadlineExceededException(userId, DeadlineStage.LOCK);
+        }
+    }
+
+    private void checkDeadline(long userId, Deadline deadline, DeadlineStage stage) {
+        if (deadline.expired()) {
+            pointMetrics.deadlineExceeded(stage);
+            throw new PointDeadlineExceededException(userId, stage);
+        }
+    }
+
+    private void recordLate(Deadline deadline) {
+        if (deadline.expired()) {
+            pointMetrics.completedLate();
+        }
+    }
+
+    // 반영하지 못한 유저의 결과에 담을 변경 전 잔액입니다. 저장소 오류로 읽지 못하면 0 을 돌려줍니다.
+    private long currentBalance(long userId) {
+        try {
+            UserPoint userPoint = userPointRepository.findById(userId);
+            return userPoint != null ? userPoint.point() : 0;
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private record LockFreeResult(long balance, long updateMillis, long sequence, RuntimeException historyFailure) {
+    }
+
+    /**
+     * 한 유저의 요청 목록 처리 결과
+     * - balances : 요청마다 처리 직후의 잔액 (실패 시 변경 전 잔액)
+     * - errors : 실패한 요청의 사유 (유효성 검사 실패, 기한 초과 또는 저장소 오류, 성공이면 null)
+     * - sequence : 마지막으로 기록한 write-ahead log 순번 (반영한 요청이 없으면 0)
+     */
+    private static final class AppliedOperations {
+        private final long[] balances;
+        private final RuntimeException[] errors;
+        private long sequence;
+        private long updateMillis;
+
+        private AppliedOperations(int size) {
+            this.balances = new long[size];
+            this.errors = new RuntimeException[size];
+        }
+
+        // 락 대기나 잔액 조회에서 실패해 아무것도 반영하지 못한 결과입니다.
+        private static AppliedOperations failed(int size, long balance, RuntimeException error) {
+            AppliedOperations result = new AppliedOperations(size);
+            Arrays.fill(result.balances, balance);
+            Arrays.fill(result.errors, error);
+            return result;
+        }
+    }
+
+    // 유효성 검사 실패를 사유별로 집계한 뒤 그대로 던집니다.
+    private void validate(Runnable validation) {
+        try {
+            validation.run();
+        } catch (PointValidationException e) {
+            pointMetrics.rejected(e.reason());
+            throw e;
         }
     }
 }
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용자별 포인트 요약
+ * - lastActivityMillis : 마지막 충전/사용 시각 (내역이 없으면 0)
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long transactionCount,
+        long lastActivityMillis
+) {
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,158 @@
+package io.hhplus.tdd.point.admission;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 요청 수 제한
+ * - 사용자별, 전체 처리 중인 요청 수가 한도에 닿으면 기다리지 않고 바로 거절합니다. (PointOverloadedException)
+ *   한 사용자에게 요청이 몰려도 사용자 락 앞에 요청 스레드가 쌓이지 않으므로 다른 사용자의 요청은 계속 처리됩니다.
+ * - 처리 중인 요청은 결과(CompletableFuture)가 완료될 때까지 한도를 차지합니다.
+ * - 일괄 처리 요청은 전체 한도를 한 건 차지하고, 포함된 사용자마다 사용자 한도를 한 건씩 차지합니다.
+ * - 지표 : point.admission.in-flight, point.admission.users, point.admission.rejected (scope 태그 : user, global)
+ */
+@Component
+public class AdmissionControl {
+
+    private final int maxInFlight;
+    private final int maxInFlightPerUser;
+    // 거절마다 예외를 새로 만들지 않도록 범위별로 하나씩 미리 만들어 둡니다.
+    private final PointOverloadedException globalOverloaded;
+    private final PointOverloadedException userOverloaded;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 처리 중인 요청이 없는 사용자는 제거합니다.
+    private final ConcurrentHashMap<Long, Integer> inFlightByUser = new ConcurrentHashMap<>();
+    private final LongAdder userRejections = new LongAdder();
+    private final LongAdder globalRejections = new LongAdder();
+
+    public AdmissionControl(int maxInFlight, int maxInFlightPerUser) {
+        this(maxInFlight, maxInFlightPerUser, 1, PointMetrics.simple());
+    }
+
+    @Autowired
+    public AdmissionControl(@Value("${point.admission.max-in-flight:150}") int maxInFlight,
+                            @Value("${point.admission.max-in-flight-per-user:8}") int maxInFlightPerUser,
+                            @Value("${point.admission.retry-after-seconds:1}") long retryAfterSeconds,
+                            PointMetrics pointMetrics) {
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightPerUser = maxInFlightPerUser;
+        this.globalOverloaded = new PointOverloadedException("처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+                retryAfterSeconds);
+        this.userOverloaded = new PointOverloadedException("해당 사용자의 처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요.",
+                retryAfterSeconds);
+        pointMetrics.gauge("point.admission.in-flight", "처리 중인 충전/사용 요청 수", inFlight, AtomicInteger::get);
+        pointMetrics.gauge("point.admission.users", "처리 중인 요청이 있는 사용자 수", inFlightByUser, ConcurrentHashMap::size);
+        pointMetrics.functionCounter("point.admission.rejected", "요청 수 한도로 거절한 횟수", "scope", "user",
+                userRejections, LongAdder::sum);
+        pointMetrics.functionCounter("point.admission.rejected", "요청 수 한도로 거절한 횟수", "scope", "global",
+                globalRejections, LongAdder::sum);
+    }
+
+    /**
+     * 한도 안에서 실행
+     * @param userId
+     * @param command 실제 충전/사용
+     * @return command 의 결과
+     */
+    public <T> CompletableFuture<T> execute(long userId, Supplier<CompletableFuture<T>> command) {
+        acquire(userId);
+        CompletableFuture<T> result;
+        try {
+            result = command.get();
+        } catch (RuntimeException e) {
+            release(userId);
+            throw e;
+        }
+        result.whenComplete((value, throwable) -> release(userId));
+        return result;
+    }
+
+    /**
+     * 여러 사용자의 요청을 한도 안에서 실행 (일괄 처리)
+     * - 한 사용자라도 한도에 닿으면 이미 차지한 한도를 돌려주고 거절합니다.
+     * @param userIds 요청에 포함된 사용자 (중복 없이)
+     * @param command 실제 일괄 처리
+     * @return command 의 결과
+     */
+    public <T> T executeAll(Collection<Long> userIds, Supplier<T> command) {
+        acquireGlobal();
+        List<Long> acquired = new ArrayList<>(userIds.size());
+        try {
+            for (long userId : userIds) {
+                acquireUser(userId);
+                acquired.add(userId);
+            }
+            return command.get();
+        } finally {
+            acquired.forEach(this::releaseUser);
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 처리 중인 요청 수
+     * @param userId
+     * @return 요청 수
+     */
+    public int inFlight(long userId) {
+        return inFlightByUser.getOrDefault(userId, 0);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void acquire(long userId) {
+        acquireGlobal();
+        try {
+            acquireUser(userId);
+        } catch (PointOverloadedException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void acquireGlobal() {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            globalRejections.increment();
+            throw globalOverloaded;
+        }
+    }
+
+    private void acquireUser(long userId) {
+        boolean[] admitted = new boolean[1];
+        inFlightByUser.compute(userId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxInFlightPerUser) {
+                return count;
+            }
+            admitted[0] = true;
+            return current + 1;
+        });
+        if (!admitted[0]) {
+            userRejections.increment();
+            throw userOverloaded;
+        }
+    }
+
+    private void release(long userId) {
+        releaseUser(userId);
+        inFlight.decrementAndGet();
+    }
+
+    private void releaseUser(long userId) {
+        inFlightByUser.compute(userId, (id, count) -> count == null || count <= 1 ? null : count - 1);
+    }
+}
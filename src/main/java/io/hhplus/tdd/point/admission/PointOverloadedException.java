@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.admission;
+
+/**
+ * 처리 중인 요청이 한도를 넘어 새 요청을 받지 않은 경우
+ * - 부하가 몰릴 때 거절마다 던지므로 스택 트레이스와 suppression 을 끕니다.
+ *   상태를 바꿀 수 없으므로 AdmissionControl 처럼 미리 만든 인스턴스를 여러 스레드가 함께 던져도 됩니다.
+ */
+public class PointOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PointOverloadedException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 다시 시도하기까지 기다릴 시간 (Retry-After)
+     * @return 초
+     */
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,292 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 사용자별 잔액 셀 (락 없는 잔액 갱신)
+ * - 사용자마다 잔액 상태(잔액, 버전, 갱신 시각)를 두고 compare-and-set 재시도로 갱신하므로, 같은 사용자의 요청도 락을 기다리지 않습니다.
+ * - 셀은 처음 접근할 때 저장소의 잔액으로 만들며, 이후 잔액은 셀이 기준입니다.
+ * - 갱신 후 처리(commit, 로그와 내역 기록)는 compare-and-set 이 성공한 순서(버전 순서)대로 실행합니다.
+ * - commit 이 실패하면 잔액을 마지막으로 commit 한 값으로 되돌리고, 그 잔액을 기준으로 이미 갱신한 뒤의 요청은 되돌린 잔액에서 다시 시도합니다.
+ *   따라서 조회와 저장소에는 commit 이 끝난 잔액만 보입니다.
+ * - 저장소 반영은 별도 스레드가 비동기로 수행합니다. 마지막으로 반영한 버전보다 새로울 때만 마지막으로 commit 한 잔액을 저장하므로,
+ *   저장은 버전 순서로만 일어나며 그 사이의 중간 값은 건너뜁니다. 저장에 실패하면 점점 길게 쉬면서 반영될 때까지 다시 시도합니다.
+ * - idleMillis 동안 갱신이 없고 저장소에 반영된 셀은 반영 스레드가 제거합니다. 제거한 셀은 다시 갱신되지 않으며, 다음 접근 때 저장소의 잔액으로 새로 만듭니다.
+ */
+public class BalanceCells {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCells.class);
+
+    private static final long DEFAULT_IDLE_MILLIS = 60_000;
+    private static final long RETRY_BACKOFF_MILLIS = 10;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 1_000;
+    // 제거된 셀의 상태 (이 상태의 셀은 갱신하지 않고 새 셀을 만듭니다)
+    private static final State RETIRED = new State(0, -1, 0);
+
+    private final UserPointRepository userPointRepository;
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final BlockingQueue<Cell> dirty = new LinkedBlockingQueue<>();
+    private final long idleNanos;
+    private final long evictIntervalNanos;
+    private final Thread persister;
+    private volatile boolean running = true;
+
+    public BalanceCells(UserPointRepository userPointRepository) {
+        this(userPointRepository, DEFAULT_IDLE_MILLIS);
+    }
+
+    public BalanceCells(UserPointRepository userPointRepository, long idleMillis) {
+        this.userPointRepository = userPointRepository;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        this.evictIntervalNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), idleNanos / 4);
+        this.persister = new Thread(this::persistLoop, "point-balance-persister");
+        this.persister.setDaemon(true);
+        this.persister.start();
+    }
+
+    /**
+     * 특정 유저의 잔액 조회
+     * @param userId
+     * @return 셀의 UserPoint (셀이 없으면 저장소의 UserPoint)
+     */
+    public UserPoint get(long userId) {
+        Cell cell = cells.get(userId);
+        if (cell == null || cell.state.get() == RETIRED) {
+            return userPointRepository.findById(userId);
+        }
+        State committed = cell.committed;
+        return new UserPoint(userId, committed.balance, committed.updateMillis);
+    }
+
+    /**
+     * 특정 유저의 잔액을 compare-and-set 으로 갱신
+     * @param userId
+     * @param update 현재 잔액으로 새 잔액 계산
+     * @return 갱신 후 잔액
+     */
+    public long update(long userId, LongUnaryOperator update) {
+        return update(userId, update, balance -> balance);
+    }
+
+    /**
+     * 특정 유저의 잔액을 compare-and-set 으로 갱신한 뒤, 갱신 순서대로 commit 실행
+     * - update 는 경합 시 여러 번 호출될 수 있으므로 부수 효과가 없어야 하며, 예외를 던지면 갱신하지 않습니다.
+     * - 같은 사용자의 commit 은 겹치지 않고 버전 순서로 실행되며, 앞선 갱신의 commit 이 끝날 때까지 기다립니다.
+     * - commit 이 예외를 던지면 잔액을 되돌리고 그 예외를 그대로 던집니다.
+     * @param userId
+     * @param update 현재 잔액으로 새 잔액 계산
+     * @param commit 갱신 후 잔액을 받아 로그와 내역을 기록
+     * @return commit 의 결과
+     */
+    public <T> T update(long userId, LongUnaryOperator update, LongFunction<T> commit) {
+        while (true) {
+            Cell cell = cell(userId);
+            State current = cell.state.get();
+            if (current == RETIRED) {
+                continue;
+            }
+            State next = new State(update.applyAsLong(current.balance), current.version + 1, System.currentTimeMillis());
+            if (!cell.state.compareAndSet(current, next)) {
+                continue;
+            }
+            cell.lastUpdateNanos = System.nanoTime();
+            awaitTurn(cell, next.version);
+            if (next.version <= cell.abortedVersion) {
+                // 앞선 갱신의 commit 이 실패해 이 갱신의 기준 잔액이 되돌려졌으므로, 차례를 넘기고 되돌린 잔액에서 다시 시도합니다.
+                cell.committedVersion = next.version;
+                continue;
+            }
+            T result;
+            try {
+                result = commit.apply(next.balance);
+            } catch (Throwable e) {
+                rollback(cell);
+                cell.committedVersion = next.version;
+                throw e;
+            }
+            cell.committed = next;
+            cell.committedVersion = next.version;
+            markDirty(cell);
+            return result;
+        }
+    }
+
+    /**
+     * 보관 중인 셀 수
+     * @return 셀 수
+     */
+    public int size() {
+        return cells.size();
+    }
+
+    /**
+     * 모든 셀의 마지막으로 commit 한 잔액이 저장소에 반영될 때까지 대기
+     * - 저장에 실패한 셀은 반영 스레드가 다시 시도하므로, 반영될 때까지 계속 기다립니다.
+     * - 반영 스레드가 죽어 남은 잔액을 반영할 수 없으면 대기하지 않고 실패합니다.
+     * @throws InterruptedException
+     */
+    public void flush() throws InterruptedException {
+        for (Cell cell : cells.values()) {
+            while (cell.persisted.version < cell.committed.version && cell.state.get() != RETIRED) {
+                if (!persister.isAlive()) {
+                    throw new IllegalStateException("잔액 반영 스레드가 종료되어 남은 잔액을 반영할 수 없습니다. userId = " + cell.userId);
+                }
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+    }
+
+    public void close() throws InterruptedException {
+        flush();
+        running = false;
+        persister.interrupt();
+        persister.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private Cell cell(long userId) {
+        Cell cell = cells.get(userId);
+        if (cell != null) {
+            if (cell.state.get() != RETIRED) {
+                return cell;
+            }
+            cells.remove(userId, cell);
+        }
+        // 저장소 조회는 느릴 수 있으므로 맵 밖에서 읽고, 먼저 만들어진 셀이 있으면 그것을 사용합니다.
+        UserPoint userPoint = userPointRepository.findById(userId);
+        Cell created = new Cell(userId, new State(userPoint.point(), 0, userPoint.updateMillis()));
+        Cell existing = cells.putIfAbsent(userId, created);
+        return existing != null ? existing : created;
+    }
+
+    // 바로 앞 버전의 commit 이 끝날 때까지 기다립니다. 앞선 스레드는 이미 갱신에 성공해 commit 중이므로 대기는 짧습니다.
+    private static void awaitTurn(Cell cell, long version) {
+        int spins = 0;
+        while (cell.committedVersion != version - 1) {
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1_000);
+            }
+        }
+    }
+
+    // commit 이 실패한 갱신과, 그 잔액을 기준으로 이미 compare-and-set 한 뒤의 갱신을 모두 취소하고 마지막으로 commit 한 잔액으로 되돌립니다.
+    // 실패한 갱신이 차례를 쥐고 있는 동안 호출하므로, 취소된 갱신은 아직 commit 하지 않았습니다.
+    private void rollback(Cell cell) {
+        State committed = cell.committed;
+        while (true) {
+            State latest = cell.state.get();
+            cell.abortedVersion = latest.version;
+            State restored = new State(committed.balance, latest.version, committed.updateMillis);
+            if (cell.state.compareAndSet(latest, restored)) {
+                cell.committed = restored;
+                markDirty(cell);
+                return;
+            }
+        }
+    }
+
+    private void markDirty(Cell cell) {
+        if (cell.queued.compareAndSet(false, true)) {
+            dirty.add(cell);
+        }
+    }
+
+    private void persistLoop() {
+        long nextEviction = System.nanoTime() + evictIntervalNanos;
+        int failures = 0;
+        while (running) {
+            Cell cell;
+            try {
+                cell = dirty.poll(evictIntervalNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (cell != null) {
+                if (persist(cell)) {
+                    failures = 0;
+                } else {
+                    failures++;
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(
+                            Math.min(RETRY_BACKOFF_MILLIS * failures, MAX_RETRY_BACKOFF_MILLIS)));
+                }
+            }
+            if (System.nanoTime() - nextEviction >= 0) {
+                evictIdle();
+                nextEviction = System.nanoTime() + evictIntervalNanos;
+            }
+        }
+    }
+
+    private boolean persist(Cell cell) {
+        // 반영 전에 표시를 풀어야 반영 중 commit 한 갱신이 다시 큐에 들어갑니다.
+        cell.queued.set(false);
+        State committed = cell.committed;
+        if (committed.version <= cell.persisted.version) {
+            return true;
+        }
+        try {
+            userPointRepository.save(cell.userId, committed.balance);
+            cell.persisted = committed;
+            return true;
+        } catch (RuntimeException e) {
+            // 다음 갱신을 기다리지 않고 큐에 다시 넣어, 반영될 때까지 다시 시도합니다.
+            log.warn("잔액을 저장소에 반영하지 못해 다시 시도합니다. userId = {}", cell.userId, e);
+            markDirty(cell);
+            return false;
+        }
+    }
+
+    // 반영 스레드에서만 호출합니다. 마지막으로 반영한 상태 그대로이고 commit 이 모두 끝난 셀만 제거하므로,
+    // 제거 후 저장소에서 다시 만든 셀은 같은 잔액에서 시작합니다.
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (Cell cell : cells.values()) {
+            State state = cell.persisted;
+            if (!cell.queued.get() && now - cell.lastUpdateNanos >= idleNanos
+                    && cell.committedVersion == state.version && cell.state.compareAndSet(state, RETIRED)) {
+                cells.remove(cell.userId, cell);
+            }
+        }
+    }
+
+    /**
+     * 셀의 잔액 상태
+     * - version : 셀을 만든 뒤 갱신한 횟수 (compare-and-set 이 성공한 순서)
+     */
+    private record State(long balance, long version, long updateMillis) {
+    }
+
+    private static final class Cell {
+        private final long userId;
+        private final AtomicReference<State> state;
+        private final AtomicBoolean queued = new AtomicBoolean();
+        private volatile long committedVersion;
+        // 마지막으로 commit 한 상태 (차례를 쥔 스레드만 바꿉니다)
+        private volatile State committed;
+        // commit 이 실패해 취소된 마지막 버전 (이 버전까지의 갱신은 다시 시도합니다)
+        private volatile long abortedVersion = -1;
+        private volatile long lastUpdateNanos = System.nanoTime();
+        // 반영 스레드만 바꿉니다.
+        private volatile State persisted;
+
+        private Cell(long userId, State initial) {
+            this.userId = userId;
+            this.state = new AtomicReference<>(initial);
+            this.committed = initial;
+            this.persisted = initial;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 사용자 포인트 잔액 저장소
+ * - UserPointRepository 가 캐시 뒤에서 사용하는 실제 저장 공간입니다.
+ */
+public interface BalanceStore {
+
+    /**
+     * 특정 유저의 포인트 조회
+     * @param userId
+     * @return 저장된 적이 없으면 포인트 0 의 UserPoint
+     */
+    UserPoint findById(long userId);
+
+    /**
+     * 특정 유저의 포인트 저장
+     * @param userId
+     * @param point
+     * @return 저장된 UserPoint
+     */
+    UserPoint save(long userId, long point);
+
+    /**
+     * 저장된 적이 있는 사용자 id 목록 (전체 내보내기용)
+     * @return 사용자 id 배열 (순서 없음)
+     */
+    long[] userIds();
+
+    /**
+     * 앞단에 캐시를 둘 만큼 조회가 느린지 여부
+     * @return 캐시를 두지 않아도 되면 false
+     */
+    default boolean cacheable() {
+        return true;
+    }
+
+    /**
+     * 뒤로 미룬 저장이 있으면 모두 반영될 때까지 대기
+     * @throws InterruptedException
+     */
+    default void flush() throws InterruptedException {
+    }
+
+    /**
+     * 뒤로 미룬 저장을 모두 반영한 뒤 정리
+     * @throws InterruptedException
+     */
+    default void close() throws InterruptedException {
+    }
+}
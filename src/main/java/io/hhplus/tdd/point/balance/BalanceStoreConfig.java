@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 설정된 종류(point.balance.store)의 잔액 저장소 등록
+ */
+@Configuration
+public class BalanceStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public BalanceStore balanceStore(UserPointTable userPointTable,
+                                     @Value("${point.balance.store:table}") BalanceStoreType type,
+                                     @Value("${point.balance.table.write-behind.enabled:true}") boolean writeBehind,
+                                     @Value("${point.balance.primitive.initial-capacity:1024}") int initialCapacity,
+                                     @Value("${point.balance.primitive.off-heap:false}") boolean offHeap,
+                                     PointMetrics pointMetrics) {
+        return switch (type) {
+            case TABLE -> new UserPointTableBalanceStore(userPointTable, writeBehind, pointMetrics);
+            case PRIMITIVE -> new PrimitiveBalanceStore(initialCapacity, offHeap);
+        };
+    }
+}
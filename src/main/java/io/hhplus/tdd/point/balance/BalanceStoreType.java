@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.balance;
+
+/**
+ * 잔액 저장소 종류
+ * - TABLE : UserPointTable (HashMap<Long, UserPoint>)
+ * - PRIMITIVE : long 키를 직접 담는 open addressing 저장소 (PrimitiveBalanceStore)
+ */
+public enum BalanceStoreType {
+    TABLE, PRIMITIVE
+}
@@ -0,0 +1,201 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long 키를 박싱 없이 저장하는 open addressing 잔액 저장소
+ * - 사용자마다 [userId 8][point 8][updateMillis 8] 한 칸(24 byte)을 하나의 ByteBuffer 에 연속으로 저장합니다.
+ *   HashMap<Long, UserPoint> 처럼 사용자마다 Long, Node, UserPoint 객체를 두지 않으며, 갱신 시에도 새 객체를 남기지 않습니다.
+ * - 충돌은 선형 탐사로 처리하고, 사용률이 0.75 를 넘으면 두 배로 늘립니다.
+ * - off-heap 이면 allocateDirect 로 힙 밖에 두어 GC 대상에서 빠집니다. (-XX:MaxDirectMemorySize 확인 필요)
+ * - 조회는 StampedLock 의 낙관적 읽기로 락 없이 수행하고, 저장만 쓰기 락을 잡습니다.
+ * - userId 로 Long.MIN_VALUE 는 사용할 수 없습니다. (빈 칸 표시)
+ */
+public class PrimitiveBalanceStore implements BalanceStore {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int SLOT_SIZE = 24;
+    private static final int MAX_SLOTS = 1 << 26;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final boolean offHeap;
+    private final StampedLock lock = new StampedLock();
+
+    // 아래 값은 쓰기 락 안에서만 변경됩니다.
+    private ByteBuffer slots;
+    private int size;
+
+    public PrimitiveBalanceStore(int initialCapacity, boolean offHeap) {
+        this.offHeap = offHeap;
+        this.slots = allocate(slotCountFor(initialCapacity));
+    }
+
+    @Override
+    public UserPoint findById(long userId) {
+        long stamp = lock.tryOptimisticRead();
+        UserPoint userPoint = find(slots, userId);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                userPoint = find(slots, userId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return userPoint != null ? userPoint : UserPoint.empty(userId);
+    }
+
+    @Override
+    public UserPoint save(long userId, long point) {
+        if (userId == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 사용자 id 입니다. userId = " + userId);
+        }
+        long updateMillis = System.currentTimeMillis();
+        long stamp = lock.writeLock();
+        try {
+            int offset = slotOf(slots, userId);
+            if (slots.getLong(offset) == EMPTY) {
+                if (size + 1 > threshold(slots)) {
+                    resize();
+                    offset = slotOf(slots, userId);
+                }
+                slots.putLong(offset, userId);
+                size++;
+            }
+            slots.putLong(offset + 8, point);
+            slots.putLong(offset + 16, updateMillis);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new UserPoint(userId, point, updateMillis);
+    }
+
+    @Override
+    public boolean cacheable() {
+        return false;
+    }
+
+    @Override
+    public long[] userIds() {
+        long stamp = lock.readLock();
+        try {
+            long[] userIds = new long[size];
+            int count = 0;
+            for (int offset = 0; offset < slots.capacity(); offset += SLOT_SIZE) {
+                long key = slots.getLong(offset);
+                if (key != EMPTY) {
+                    userIds[count++] = key;
+                }
+            }
+            return userIds;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 저장된 사용자 수
+     * @return 사용자 수
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 저장 공간 크기 (빈 칸 포함)
+     * @return byte 수
+     */
+    public long capacityBytes() {
+        long stamp = lock.readLock();
+        try {
+            return slots.capacity();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 낙관적 읽기 중에는 값이 바뀌는 도중일 수 있으므로, 탐사 횟수를 칸 수로 제한하고 결과는 validate 후에만 사용합니다.
+    private static UserPoint find(ByteBuffer current, long userId) {
+        int mask = current.capacity() / SLOT_SIZE - 1;
+        int index = hash(userId) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            int offset = index * SLOT_SIZE;
+            long key = current.getLong(offset);
+            if (key == userId) {
+                return new UserPoint(userId, current.getLong(offset + 8), current.getLong(offset + 16));
+            }
+            if (key == EMPTY) {
+                return null;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    // 해당 사용자의 칸, 없으면 들어갈 빈 칸의 위치
+    private static int slotOf(ByteBuffer current, long userId) {
+        int mask = current.capacity() / SLOT_SIZE - 1;
+        int index = hash(userId) & mask;
+        while (true) {
+            int offset = index * SLOT_SIZE;
+            long key = current.getLong(offset);
+            if (key == userId || key == EMPTY) {
+                return offset;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        int slotCount = slots.capacity() / SLOT_SIZE;
+        if (slotCount >= MAX_SLOTS) {
+            throw new IllegalStateException("잔액 저장소가 가득 찼습니다. size = " + size);
+        }
+        ByteBuffer resized = allocate(slotCount * 2);
+        for (int offset = 0; offset < slots.capacity(); offset += SLOT_SIZE) {
+            long key = slots.getLong(offset);
+            if (key != EMPTY) {
+                int target = slotOf(resized, key);
+                resized.putLong(target, key);
+                resized.putLong(target + 8, slots.getLong(offset + 8));
+                resized.putLong(target + 16, slots.getLong(offset + 16));
+            }
+        }
+        slots = resized;
+    }
+
+    private ByteBuffer allocate(int slotCount) {
+        ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(slotCount * SLOT_SIZE) : ByteBuffer.allocate(slotCount * SLOT_SIZE);
+        for (int offset = 0; offset < buffer.capacity(); offset += SLOT_SIZE) {
+            buffer.putLong(offset, EMPTY);
+        }
+        return buffer;
+    }
+
+    private static int threshold(ByteBuffer current) {
+        return (int) (current.capacity() / SLOT_SIZE * LOAD_FACTOR);
+    }
+
+    private static int slotCountFor(int capacity) {
+        double needed = Math.ceil(capacity / LOAD_FACTOR);
+        int slotCount = 16;
+        while (slotCount < needed && slotCount < MAX_SLOTS) {
+            slotCount <<= 1;
+        }
+        return slotCount;
+    }
+
+    // 연속된 userId 가 인접한 칸에 몰리지 않도록 섞습니다.
+    private static int hash(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 포인트 LRU 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 사용자부터 제거합니다.
+ * - 사용자 id 로 나눈 구간(segment)마다 따로 락을 잡으므로, 서로 다른 구간의 조회는 서로 기다리지 않습니다.
+ *   LRU 순서와 최대 크기는 구간 단위로 지켜집니다. (구간당 최소 1024 개, 작은 캐시는 구간 하나)
+ * - 구간마다 저장 버전을 두어, 조회 도중 저장이 끼어든 경우 조회한 값으로 캐시를 채우지 않습니다.
+ *   (저장된 값이 그 사이 제거되었더라도 오래된 값이 다시 들어가지 않습니다.)
+ * - 적중/미스/제거 횟수를 집계합니다.
+ * - 최대 크기가 0 이면 아무것도 저장하지 않습니다.
+ */
+public class UserPointCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 1024;
+
+    private final int maxSize;
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserPointCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("캐시 크기는 0 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && maxSize / (segmentCount * 2) >= MIN_SEGMENT_SIZE) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment((maxSize + segmentCount - 1) / segmentCount);
+        }
+    }
+
+    /**
+     * 캐시된 사용자 포인트 조회
+     * @param userId
+     * @return 캐시에 없으면 null
+     */
+    public UserPoint get(long userId) {
+        if (maxSize == 0) {
+            return null;
+        }
+        UserPoint userPoint;
+        Segment segment = segmentOf(userId);
+        synchronized (segment) {
+            userPoint = segment.entries.get(userId);
+        }
+        if (userPoint == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 캐시를 채우기 전 저장 버전 확인 (read-through)
+     * - 잔액 저장소를 읽기 전에 호출하고, 읽은 값과 함께 putIfAbsent 에 넘깁니다.
+     * @param userId
+     * @return 현재 저장 버전
+     */
+    public long version(long userId) {
+        Segment segment = segmentOf(userId);
+        synchronized (segment) {
+            return segment.version;
+        }
+    }
+
+    /**
+     * 저장된 사용자 포인트로 캐시 갱신 (write-through)
+     * @param userPoint
+     */
+    public void put(UserPoint userPoint) {
+        if (maxSize == 0) {
+            return;
+        }
+        Segment segment = segmentOf(userPoint.id());
+        synchronized (segment) {
+            segment.version++;
+            segment.entries.put(userPoint.id(), userPoint);
+        }
+    }
+
+    /**
+     * 조회한 사용자 포인트로 캐시 채우기 (read-through)
+     * - 조회 도중 충전/사용으로 더 최신 값이 저장되었다면(버전이 바뀌었다면) 채우지 않습니다.
+     * @param userPoint
+     * @param version 잔액 저장소를 읽기 전에 확인한 저장 버전
+     */
+    public void putIfAbsent(UserPoint userPoint, long version) {
+        if (maxSize == 0) {
+            return;
+        }
+        Segment segment = segmentOf(userPoint.id());
+        synchronized (segment) {
+            if (segment.version == version) {
+                segment.entries.putIfAbsent(userPoint.id(), userPoint);
+            }
+        }
+    }
+
+    /**
+     * 캐시 통계
+     * @return 적중/미스/제거 횟수와 현재 크기
+     */
+    public Stats stats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    // 연속된 userId 가 한 구간에 몰리지 않도록 섞습니다.
+    private Segment segmentOf(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return segments[(int) (h >>> 32) & (segments.length - 1)];
+    }
+
+    public record Stats(
+            long hits,
+            long misses,
+            long evictions,
+            int size
+    ) {
+    }
+
+    private final class Segment {
+        private final Map<Long, UserPoint> entries;
+        // 이 구간에 저장(put)할 때마다 증가합니다. 구간 락 안에서만 변경됩니다.
+        private long version;
+
+        private Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    boolean evict = size() > maxSize;
+                    if (evict) {
+                        evictions.increment();
+                    }
+                    return evict;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 포인트 저장소
+ * - 조회 시 캐시에 없으면 잔액 저장소(BalanceStore)에서 읽어 캐시를 채웁니다. (read-through)
+ * - 저장에 성공하면 저장된 값으로 캐시를 갱신합니다. (write-through)
+ * - 모든 변경은 이 저장소를 통해야 캐시가 테이블과 일치합니다.
+ * - 잔액 저장소가 이미 충분히 빠르면(BalanceStore.cacheable() == false) 캐시를 두지 않습니다.
+ */
+@Component
+public class UserPointRepository {
+
+    private static final int DEFAULT_CACHE_SIZE = 100_000;
+
+    private final BalanceStore balanceStore;
+    private final UserPointCache userPointCache;
+
+    public UserPointRepository(UserPointTable userPointTable) {
+        this(new UserPointTableBalanceStore(userPointTable), DEFAULT_CACHE_SIZE, PointMetrics.simple());
+    }
+
+    @Autowired
+    public UserPointRepository(BalanceStore balanceStore,
+                               @Value("${point.balance.cache.max-size:100000}") int cacheSize,
+                               PointMetrics pointMetrics) {
+        this.balanceStore = balanceStore;
+        this.userPointCache = new UserPointCache(balanceStore.cacheable() ? cacheSize : 0);
+
+        pointMetrics.functionCounter("point.balance.cache.hits", "잔액 캐시 적중 횟수",
+                userPointCache, cache -> cache.stats().hits());
+        pointMetrics.functionCounter("point.balance.cache.misses", "잔액 캐시 미스 횟수",
+                userPointCache, cache -> cache.stats().misses());
+        pointMetrics.functionCounter("point.balance.cache.evictions", "잔액 캐시 제거 횟수",
+                userPointCache, cache -> cache.stats().evictions());
+        pointMetrics.gauge("point.balance.cache.size", "잔액 캐시 크기",
+                userPointCache, cache -> cache.stats().size());
+    }
+
+    /**
+     * 특정 유저의 포인트 조회
+     * @param userId
+     * @return 조회한 UserPoint
+     */
+    public UserPoint findById(long userId) {
+        UserPoint cached = userPointCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = userPointCache.version(userId);
+        UserPoint userPoint = balanceStore.findById(userId);
+        if (userPoint != null) {
+            userPointCache.putIfAbsent(userPoint, version);
+        }
+        return userPoint;
+    }
+
+    /**
+     * 캐시를 거치지 않고 잔액 저장소에서 특정 유저의 포인트 조회 (전체 내보내기용)
+     * - 한 번씩만 읽는 사용자로 캐시를 채우면 자주 조회되는 사용자가 밀려나므로 캐시를 읽지도 채우지도 않습니다.
+     * @param userId
+     * @return 조회한 UserPoint
+     */
+    public UserPoint findByIdUncached(long userId) {
+        return balanceStore.findById(userId);
+    }
+
+    /**
+     * 특정 유저의 포인트 저장
+     * @param userId
+     * @param point
+     * @return 저장된 UserPoint
+     */
+    public UserPoint save(long userId, long point) {
+        UserPoint saved = balanceStore.save(userId, point);
+        userPointCache.put(saved);
+        return saved;
+    }
+
+    /**
+     * 잔액 저장소가 뒤로 미룬 저장이 모두 반영될 때까지 대기
+     * @throws InterruptedException
+     */
+    public void flush() throws InterruptedException {
+        balanceStore.flush();
+    }
+
+    /**
+     * 저장된 적이 있는 사용자 id 목록
+     * @return 사용자 id 배열 (순서 없음)
+     */
+    public long[] userIds() {
+        return balanceStore.userIds();
+    }
+
+    /**
+     * 캐시 통계
+     * @return 적중/미스/제거 횟수와 현재 크기
+     */
+    public UserPointCache.Stats cacheStats() {
+        return userPointCache.stats();
+    }
+}
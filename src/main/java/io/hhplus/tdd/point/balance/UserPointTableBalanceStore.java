@@ -0,0 +1,177 @@
+package io.hhplus.tdd.point.balance;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * UserPointTable 을 그대로 사용하는 잔액 저장소
+ * - 사용자별 최신 잔액은 앞단의 ConcurrentHashMap 이 기준이며, 한 번 읽거나 저장한 사용자는 테이블을 읽지 않습니다.
+ * - 테이블은 HashMap 이라 스레드 안전하지 않으므로, 테이블 저장은 한 번에 하나씩만 수행하고 그동안 테이블 조회는 기다립니다.
+ * - write-behind 모드에서는 앞단에 저장하고 바로 반환하며, 백그라운드 스레드가 사용자별 최신 잔액만 테이블에 반영합니다.
+ *   요청 스레드는 느린 테이블 저장을 기다리지 않으므로, 서로 다른 사용자의 저장이 테이블 하나에 줄 서지 않습니다.
+ *   테이블 반영에 실패하면 점점 길게 쉬면서 반영될 때까지 다시 시도합니다.
+ * - 동기 모드에서는 테이블에 저장한 뒤 반환하며, 저장에 실패하면 앞단도 바꾸지 않고 예외를 던집니다. (단위 테스트용)
+ * - 테이블 락 대기 시간과 테이블 호출 시간은 따로 기록하므로, 호출 시간 지표에 다른 호출을 기다린 시간이 섞이지 않습니다.
+ * - 테이블은 사용자 목록을 제공하지 않으므로, 저장한 사용자 id 를 따로 기록합니다.
+ */
+public class UserPointTableBalanceStore implements BalanceStore {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointTableBalanceStore.class);
+    private static final long RETRY_BACKOFF_MILLIS = 10;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 1_000;
+
+    private final UserPointTable userPointTable;
+    private final boolean writeBehind;
+    private final PointMetrics pointMetrics;
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final Set<Long> userIds = ConcurrentHashMap.newKeySet();
+    // 테이블에 아직 반영하지 않은 사용자별 최신 잔액과, 반영할 사용자 id 의 대기열 (사용자마다 한 번씩만 들어갑니다)
+    private final ConcurrentHashMap<Long, UserPoint> unwritten = new ConcurrentHashMap<>();
+    private final BlockingQueue<Long> dirty = new LinkedBlockingQueue<>();
+    private final ReentrantReadWriteLock tableLock = new ReentrantReadWriteLock();
+    private final Thread writer;
+    private volatile boolean running;
+
+    public UserPointTableBalanceStore(UserPointTable userPointTable) {
+        this(userPointTable, false, PointMetrics.simple());
+    }
+
+    public UserPointTableBalanceStore(UserPointTable userPointTable, boolean writeBehind, PointMetrics pointMetrics) {
+        this.userPointTable = userPointTable;
+        this.writeBehind = writeBehind;
+        this.pointMetrics = pointMetrics;
+        this.running = writeBehind;
+        this.writer = new Thread(this::writeLoop, "point-balance-table-writer");
+        if (writeBehind) {
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    @Override
+    public UserPoint findById(long userId) {
+        UserPoint userPoint = balances.get(userId);
+        if (userPoint != null) {
+            return userPoint;
+        }
+        UserPoint loaded;
+        long start = System.nanoTime();
+        tableLock.readLock().lock();
+        pointMetrics.recordUserPointSelectLockWait(System.nanoTime() - start);
+        try {
+            loaded = pointMetrics.recordUserPointSelect(() -> userPointTable.selectById(userId));
+        } finally {
+            tableLock.readLock().unlock();
+        }
+        // 읽는 동안 저장된 잔액이 있으면 그것이 최신입니다.
+        UserPoint existing = balances.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    @Override
+    public UserPoint save(long userId, long point) {
+        if (!writeBehind || !writer.isAlive()) {
+            UserPoint saved = insertOrUpdate(userId, point);
+            balances.put(userId, saved);
+            userIds.add(userId);
+            return saved;
+        }
+        UserPoint saved = new UserPoint(userId, point, System.currentTimeMillis());
+        balances.put(userId, saved);
+        userIds.add(userId);
+        if (unwritten.put(userId, saved) == null) {
+            dirty.add(userId);
+        }
+        return saved;
+    }
+
+    @Override
+    public long[] userIds() {
+        return userIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 테이블에 아직 반영하지 않은 잔액이 모두 반영될 때까지 대기
+     * - 반영 스레드가 죽어 남은 잔액을 반영할 수 없으면 대기하지 않고 실패합니다.
+     * @throws InterruptedException
+     */
+    @Override
+    public void flush() throws InterruptedException {
+        while (!unwritten.isEmpty()) {
+            if (!writer.isAlive()) {
+                throw new IllegalStateException("잔액 반영 스레드가 종료되어 남은 잔액을 반영할 수 없습니다. 남은 사용자 = "
+                        + unwritten.size());
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    /**
+     * 종료 시 남은 잔액을 모두 테이블에 반영한 뒤 반영 스레드 정리
+     * @throws InterruptedException
+     */
+    @Override
+    public void close() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        flush();
+        running = false;
+        writer.join();
+    }
+
+    private void writeLoop() {
+        int failures = 0;
+        while (running) {
+            Long userId;
+            try {
+                userId = dirty.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // 종료는 running 으로만 알리므로, 인터럽트로 남은 잔액을 버리지 않고 계속 반영합니다.
+                log.warn("잔액 반영 스레드가 인터럽트되었지만 계속 반영합니다. 남은 사용자 = {}", unwritten.size());
+                continue;
+            }
+            UserPoint latest = userId == null ? null : unwritten.get(userId);
+            if (latest == null) {
+                continue;
+            }
+            try {
+                insertOrUpdate(userId, latest.point());
+                failures = 0;
+            } catch (RuntimeException e) {
+                failures++;
+                log.warn("잔액을 테이블에 반영하지 못해 다시 시도합니다. userId = {}, attempt = {}", userId, failures, e);
+                dirty.add(userId);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(
+                        Math.min(RETRY_BACKOFF_MILLIS * failures, MAX_RETRY_BACKOFF_MILLIS)));
+                continue;
+            }
+            // 반영하는 동안 새로 저장된 잔액이 있으면 대기열에 다시 넣어 그 잔액도 반영합니다.
+            if (!unwritten.remove(userId, latest)) {
+                dirty.add(userId);
+            }
+        }
+    }
+
+    private UserPoint insertOrUpdate(long userId, long point) {
+        long start = System.nanoTime();
+        tableLock.writeLock().lock();
+        pointMetrics.recordUserPointInsertOrUpdateLockWait(System.nanoTime() - start);
+        try {
+            return pointMetrics.recordUserPointInsertOrUpdate(() -> userPointTable.insertOrUpdate(userId, point));
+        } finally {
+            tableLock.writeLock().unlock();
+        }
+    }
+}
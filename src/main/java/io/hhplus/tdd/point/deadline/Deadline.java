@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 기한
+ * - 요청을 받은 시점부터의 제한 시간으로 만들며, 실행 스레드가 바뀌어도(메일박스, 파티션) 그대로 전달됩니다.
+ * - none() 은 기한이 없으며 기존처럼 락을 끝까지 기다립니다.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE, false);
+    // nanoTime 차이 비교가 넘치지 않는 범위 (약 146 년)
+    private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE / 2;
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+
+    private Deadline(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * 지금부터 timeoutMillis 뒤까지의 기한
+     * - 아주 큰 값은 넘치지 않도록 최대 제한 시간으로 줄입니다.
+     * @param timeoutMillis 0 이하이면 기한 없음
+     * @return Deadline
+     */
+    public static Deadline afterMillis(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            return NONE;
+        }
+        long timeoutNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(timeoutMillis), MAX_TIMEOUT_NANOS);
+        return new Deadline(System.nanoTime() + timeoutNanos, true);
+    }
+
+    /**
+     * 두 기한 중 늦은 쪽 (기한 없음이 가장 늦음)
+     * @param other
+     * @return Deadline
+     */
+    public Deadline later(Deadline other) {
+        return remainingNanos() >= other.remainingNanos() ? this : other;
+    }
+
+    public boolean bounded() {
+        return bounded;
+    }
+
+    /**
+     * 남은 시간
+     * @return nano 초 (지났으면 0 이하)
+     */
+    public long remainingNanos() {
+        return bounded ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public boolean expired() {
+        return remainingNanos() <= 0;
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.deadline;
+
+/**
+ * 기한이 지나 요청을 포기한 단계
+ * - QUEUED : 실행을 기다리는 동안 (메일박스, 파티션 큐)
+ * - LOCK : 사용자 락을 기다리는 동안
+ * - WRITE : 잔액을 조회한 뒤, 저장하기 직전
+ */
+public enum DeadlineStage {
+    QUEUED,
+    LOCK,
+    WRITE
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.deadline;
+
+/**
+ * 요청 처리 기한이 지나 잔액을 변경하지 않고 포기한 경우
+ * - 부하가 몰릴 때 거절마다 만들어지므로 스택 트레이스와 suppression 을 끄고, 메시지는 고정 문자열을 사용합니다.
+ *   사용자와 단계는 userId(), stage() 로 확인합니다.
+ */
+public class PointDeadlineExceededException extends RuntimeException {
+
+    private static final String MESSAGE = "요청 처리 기한이 지났습니다.";
+
+    private final long userId;
+    private final DeadlineStage stage;
+
+    public PointDeadlineExceededException(long userId, DeadlineStage stage) {
+        super(MESSAGE, null, false, false);
+        this.userId = userId;
+        this.stage = stage;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public DeadlineStage stage() {
+        return stage;
+    }
+}
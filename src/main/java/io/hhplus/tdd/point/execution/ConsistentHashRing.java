@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point.execution;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 id 를 파티션에 배정하는 consistent hashing 링
+ * - 파티션마다 virtualNodes 개의 지점을 링에 두고, 사용자 해시의 시계 방향 다음 지점의 파티션에 배정합니다.
+ * - 파티션 수가 바뀌어도 전체가 아닌 약 1/N 의 사용자만 다른 파티션으로 옮겨집니다.
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 락 없이 조회합니다.
+ */
+public class ConsistentHashRing {
+
+    private final int partitions;
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(int partitions, int virtualNodes) {
+        if (partitions < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("파티션 수와 가상 노드 수는 1 이상이어야 합니다. partitions = "
+                    + partitions + ", virtualNodes = " + virtualNodes);
+        }
+        this.partitions = partitions;
+        long[][] nodes = new long[partitions * virtualNodes][];
+        for (int partition = 0; partition < partitions; partition++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                nodes[partition * virtualNodes + node] = new long[]{mix(((long) partition << 32) | node), partition};
+            }
+        }
+        Arrays.sort(nodes, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[nodes.length];
+        this.owners = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            points[i] = nodes[i][0];
+            owners[i] = (int) nodes[i][1];
+        }
+    }
+
+    /**
+     * 사용자의 파티션
+     * @param userId
+     * @return 파티션 번호 (0 부터)
+     */
+    public int partitionOf(long userId) {
+        int index = Arrays.binarySearch(points, mix(userId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+
+    // 연속된 id 가 링 위에 고르게 흩어지도록 섞습니다. (SplitMix64)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,212 @@
+package io.hhplus.tdd.point.execution;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 파티션 실행기
+ * - 사용자를 consistent hashing 으로 N 개 파티션에 나누고, 파티션마다 전용 스레드 하나가 작업을 순서대로 처리합니다.
+ *   한 사용자의 작업은 항상 같은 파티션에서 처리되므로 파티션 사이에는 경합이 없습니다.
+ * - 파티션마다 스레드가 하나이므로 동시에 처리되는 작업 수는 파티션 수를 넘지 않습니다.
+ *   저장소 호출이 느리면 요청 스레드가 더 많아도 파티션 수가 처리량의 상한이 됩니다.
+ * - 파티션 수는 실행 중에 바꿀 수 있습니다(rebalance). 옮겨지는 사용자의 이전 작업이 모두 끝난 뒤에
+ *   새 파티션이 작업을 시작하므로, 처리 중인 작업이 유실되거나 순서가 바뀌지 않습니다.
+ * - 지표 : point.partition.queue.size, point.partition.completed (partition 태그)
+ */
+public class PartitionedExecutor {
+
+    private final int virtualNodes;
+    private final PointMetrics pointMetrics;
+    // 배정과 작업 추가를 하나로 묶어, 재배정 중에 이전 배정으로 작업이 들어가지 않게 합니다.
+    private final ReentrantReadWriteLock routing = new ReentrantReadWriteLock();
+    private final List<Partition> registered = new ArrayList<>();
+
+    private ConsistentHashRing ring;
+    private Partition[] partitions;
+
+    public PartitionedExecutor(int partitions, int virtualNodes, PointMetrics pointMetrics) {
+        this.virtualNodes = virtualNodes;
+        this.pointMetrics = pointMetrics;
+        this.ring = new ConsistentHashRing(partitions, virtualNodes);
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = newPartition(i);
+        }
+    }
+
+    /**
+     * 사용자의 파티션에 작업 추가
+     * @param userId
+     * @param task
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        routing.readLock().lock();
+        try {
+            partitions[ring.partitionOf(userId)].execute(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } finally {
+            routing.readLock().unlock();
+        }
+        return future;
+    }
+
+    /**
+     * 파티션 수 변경
+     * - 늘릴 때 : 기존 파티션은 계속 처리하고, 새 파티션은 기존 파티션에 쌓인 작업이 끝날 때까지 기다렸다가 시작합니다.
+     * - 줄일 때 : 남는 파티션은 없어지는 파티션에 쌓인 작업이 끝날 때까지 기다렸다가 이어서 처리합니다.
+     * @param count 새 파티션 수
+     */
+    public void rebalance(int count) {
+        routing.writeLock().lock();
+        try {
+            int current = partitions.length;
+            if (count == current) {
+                return;
+            }
+            ConsistentHashRing nextRing = new ConsistentHashRing(count, virtualNodes);
+            Partition[] next = new Partition[count];
+            System.arraycopy(partitions, 0, next, 0, Math.min(current, count));
+
+            // 사용자를 내주는 파티션에 쌓인 작업이 끝나는 시점
+            List<CompletableFuture<Void>> drains = new ArrayList<>();
+            for (int i = count < current ? count : 0; i < current; i++) {
+                drains.add(partitions[i].barrier());
+            }
+            CompletableFuture<Void> drained = CompletableFuture.allOf(drains.toArray(new CompletableFuture[0]));
+
+            for (int i = 0; i < count; i++) {
+                boolean receivesUsers = count < current || i >= current;
+                if (next[i] == null) {
+                    next[i] = newPartition(i);
+                }
+                if (receivesUsers) {
+                    next[i].execute(drained::join);
+                }
+            }
+            for (int i = count; i < current; i++) {
+                partitions[i].shutdown();
+            }
+            ring = nextRing;
+            partitions = next;
+        } finally {
+            routing.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 파티션 수
+     * @return 파티션 수
+     */
+    public int partitions() {
+        routing.readLock().lock();
+        try {
+            return partitions.length;
+        } finally {
+            routing.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 현재 파티션
+     * @param userId
+     * @return 파티션 번호 (0 부터)
+     */
+    public int partitionOf(long userId) {
+        routing.readLock().lock();
+        try {
+            return ring.partitionOf(userId);
+        } finally {
+            routing.readLock().unlock();
+        }
+    }
+
+    public void shutdown() throws InterruptedException {
+        Partition[] current;
+        routing.writeLock().lock();
+        try {
+            current = partitions;
+        } finally {
+            routing.writeLock().unlock();
+        }
+        for (Partition partition : current) {
+            partition.shutdown();
+        }
+        for (Partition partition : current) {
+            partition.awaitTermination();
+        }
+    }
+
+    // 같은 번호의 파티션이 다시 만들어져도 지표는 번호 기준으로 한 번만 등록합니다.
+    private Partition newPartition(int index) {
+        Partition partition = new Partition(index);
+        if (index < registered.size()) {
+            registered.set(index, partition);
+            return partition;
+        }
+        registered.add(partition);
+        String tag = String.valueOf(index);
+        pointMetrics.gauge("point.partition.queue.size", "파티션별 처리 대기 작업 수", "partition", tag,
+                registered, partitions -> partitions.get(index).queued.get());
+        pointMetrics.functionCounter("point.partition.completed", "파티션별 처리 완료 작업 수", "partition", tag,
+                registered, partitions -> partitions.get(index).completed.sum());
+        return partition;
+    }
+
+    private static final class Partition {
+        private final ExecutorService executor;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+
+        private Partition(int index) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "point-partition-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void execute(Runnable task) {
+            queued.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    queued.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        }
+
+        private CompletableFuture<Void> barrier() {
+            CompletableFuture<Void> barrier = new CompletableFuture<>();
+            executor.execute(() -> barrier.complete(null));
+            return barrier;
+        }
+
+        // 이미 받은 작업은 모두 처리한 뒤 종료됩니다.
+        private void shutdown() {
+            executor.shutdown();
+        }
+
+        private void awaitTermination() throws InterruptedException {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
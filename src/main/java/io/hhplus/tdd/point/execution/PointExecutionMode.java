@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.execution;
+
+/**
+ * 포인트 충전/사용 실행 방식
+ * - LOCK : 요청 스레드가 사용자 락을 잡고 직접 처리
+ * - MAILBOX : 사용자별 메일박스에 넣고 워커가 순서대로 처리
+ * - COALESCE : 같은 사용자의 대기 요청을 묶어 한 번의 잔액 조회/저장으로 처리
+ * - CAS : 사용자 락 없이 잔액 셀을 compare-and-set 으로 갱신하고, 저장소에는 비동기로 반영
+ * - PARTITION : 사용자를 consistent hashing 으로 파티션에 나누고, 파티션 전용 스레드가 순서대로 처리
+ */
+public enum PointExecutionMode {
+    LOCK, MAILBOX, COALESCE, CAS, PARTITION
+}
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.execution;
+
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 설정된 실행 방식(point.execution.mode)에 따라 충전/사용 작업을 실행
+ */
+@Component
+public class PointExecutor {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    private static final int DEFAULT_PARTITIONS = 4;
+    private static final int VIRTUAL_NODES = 64;
+
+    private final PointExecutionMode mode;
+    private final int maxBatchSize;
+    private final UserMailboxExecutor userMailboxExecutor;
+    private final ExecutorService coalescerWorkers;
+    private final PartitionedExecutor partitionedExecutor;
+
+    public PointExecutor() {
+        this(PointExecutionMode.LOCK);
+    }
+
+    public PointExecutor(PointExecutionMode mode) {
+        this(mode, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public PointExecutor(PointExecutionMode mode, int maxBatchSize) {
+        this(mode, maxBatchSize, DEFAULT_PARTITIONS, PointMetrics.simple());
+    }
+
+    public PointExecutor(PointExecutionMode mode, int maxBatchSize, int partitions, PointMetrics pointMetrics) {
+        this(mode, maxBatchSize, partitions, UserMailboxExecutor.DEFAULT_WORKER_THREADS, pointMetrics);
+    }
+
+    @Autowired
+    public PointExecutor(@Value("${point.execution.mode:lock}") PointExecutionMode mode,
+                         @Value("${point.execution.coalesce.max-batch-size:256}") int maxBatchSize,
+                         @Value("${point.execution.partition.count:4}") int partitions,
+                         @Value("${point.execution.worker-threads:64}") int workerThreads,
+                         PointMetrics pointMetrics) {
+        this.mode = mode;
+        this.maxBatchSize = maxBatchSize;
+        this.userMailboxExecutor = mode == PointExecutionMode.MAILBOX
+                ? new UserMailboxExecutor(UserMailboxExecutor.newWorkerExecutor(workerThreads)) : null;
+        this.coalescerWorkers = mode == PointExecutionMode.COALESCE
+                ? UserMailboxExecutor.newWorkerExecutor(workerThreads) : null;
+        this.partitionedExecutor = mode == PointExecutionMode.PARTITION
+                ? new PartitionedExecutor(partitions, VIRTUAL_NODES, pointMetrics) : null;
+    }
+
+    /**
+     * 특정 유저의 작업 실행
+     * - LOCK 모드에서는 호출 스레드에서 바로 실행하며, 예외도 그대로 던집니다.
+     * @param userId
+     * @param command
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> execute(long userId, Supplier<T> command) {
+        if (mode == PointExecutionMode.MAILBOX) {
+            return userMailboxExecutor.submit(userId, command);
+        }
+        if (mode == PointExecutionMode.PARTITION) {
+            return partitionedExecutor.submit(userId, command);
+        }
+        return CompletableFuture.completedFuture(command.get());
+    }
+
+    /**
+     * 같은 유저의 대기 요청을 묶어 처리하는 실행기 생성 (COALESCE 모드)
+     * @param handler 한 유저의 요청 묶음 처리
+     * @return 요청 묶음 실행기
+     */
+    public <T, R> UserRequestCoalescer<T, R> coalescer(UserRequestCoalescer.BatchHandler<T, R> handler) {
+        if (mode != PointExecutionMode.COALESCE) {
+            throw new IllegalStateException("COALESCE 모드에서만 사용할 수 있습니다. mode = " + mode);
+        }
+        return new UserRequestCoalescer<>(coalescerWorkers, maxBatchSize, handler);
+    }
+
+    /**
+     * 파티션 수 변경 (PARTITION 모드)
+     * - 처리 중인 작업은 유실되지 않으며, 옮겨지는 사용자의 작업 순서도 유지됩니다.
+     * @param partitions 새 파티션 수
+     */
+    public void rebalance(int partitions) {
+        if (mode != PointExecutionMode.PARTITION) {
+            throw new IllegalStateException("PARTITION 모드에서만 사용할 수 있습니다. mode = " + mode);
+        }
+        partitionedExecutor.rebalance(partitions);
+    }
+
+    public PointExecutionMode mode() {
+        return mode;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (userMailboxExecutor != null) {
+            userMailboxExecutor.shutdown();
+        }
+        if (coalescerWorkers != null) {
+            coalescerWorkers.shutdown();
+            coalescerWorkers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        if (partitionedExecutor != null) {
+            partitionedExecutor.shutdown();
+        }
+    }
+}
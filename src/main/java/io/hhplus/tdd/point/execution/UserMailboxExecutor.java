@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point.execution;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 메일박스 실행기
+ * - 사용자마다 작업 큐를 두고, 한 번에 하나의 워커만 해당 큐를 순서대로 비웁니다. (single-writer)
+ * - 요청 스레드는 작업을 넣고 CompletableFuture 를 받아 바로 반환됩니다.
+ * - 큐가 빈 사용자의 메일박스는 제거되므로 메모리 사용량은 처리 중인 사용자 수에 비례합니다.
+ * - 워커는 고정 크기 스레드 풀이며, 한 메일박스는 한 번에 최대 DRAIN_BATCH 개까지만 처리한 뒤 다시 예약되어
+ *   요청이 몰리는 사용자가 워커를 독점하지 않습니다.
+ * - 종료한 뒤 들어온 작업은 실행하지 않고 RejectedExecutionException 으로 실패한 future 를 반환합니다.
+ *   종료 직전에 받은 작업은 워커 풀이 거절하면 요청 스레드에서 처리하여, 받은 작업의 future 는 항상 완료됩니다.
+ */
+public class UserMailboxExecutor {
+
+    static final int DEFAULT_WORKER_THREADS = 64;
+    private static final int DRAIN_BATCH = 64;
+
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private volatile boolean closed;
+
+    public UserMailboxExecutor() {
+        this(newWorkerExecutor(DEFAULT_WORKER_THREADS));
+    }
+
+    public UserMailboxExecutor(ExecutorService workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * 특정 유저의 메일박스에 작업 추가
+     * @param userId
+     * @param task
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("메일박스 실행기가 종료되었습니다."));
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable command = () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        boolean[] schedule = new boolean[1];
+        Mailbox mailbox = mailboxes.compute(userId, (id, current) -> {
+            Mailbox target = current == null ? new Mailbox(id) : current;
+            target.tasks.add(command);
+            schedule[0] = current == null;
+            return target;
+        });
+        if (schedule[0]) {
+            reschedule(mailbox);
+        }
+        return future;
+    }
+
+    /**
+     * 처리 중인 메일박스 수
+     * @return 메일박스 수
+     */
+    public int size() {
+        return mailboxes.size();
+    }
+
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void drain(Mailbox mailbox) {
+        try {
+            Runnable task;
+            for (int i = 0; i < DRAIN_BATCH && (task = mailbox.tasks.poll()) != null; i++) {
+                task.run();
+            }
+        } finally {
+            // 작업이 어떻게 끝나든 메일박스를 다시 예약하거나 제거해야 남은 작업이 멈추지 않습니다.
+            // 큐가 비었는지 확인과 제거를 submit 과 같은 락 안에서 해야 작업이 유실되지 않습니다.
+            Mailbox remaining = mailboxes.computeIfPresent(mailbox.userId,
+                    (id, current) -> current.tasks.isEmpty() ? null : current);
+            if (remaining != null) {
+                reschedule(remaining);
+            }
+        }
+    }
+
+    private void reschedule(Mailbox mailbox) {
+        try {
+            workers.execute(() -> drain(mailbox));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 남은 작업을 이 스레드에서 마저 처리합니다.
+            drain(mailbox);
+        }
+    }
+
+    /**
+     * 메일박스/묶음 처리용 고정 크기 워커 풀
+     * - 대기열에는 처리할 작업이 있는 사용자마다 하나씩만 들어가므로 크기를 따로 제한하지 않습니다.
+     * @param threads 워커 스레드 수
+     * @return 데몬 스레드 풀
+     */
+    static ExecutorService newWorkerExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "point-mailbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class Mailbox {
+        private final long userId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        private Mailbox(long userId) {
+            this.userId = userId;
+        }
+    }
+}
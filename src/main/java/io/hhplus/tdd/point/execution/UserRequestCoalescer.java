@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 사용자별 요청 묶음(group commit) 실행기
+ * - 사용자마다 대기 큐를 두고, 한 번에 하나의 워커만 해당 큐를 처리합니다. (single-writer)
+ * - 워커는 큐에 쌓인 요청을 최대 maxBatchSize 개씩 꺼내 한 번에 handler 로 넘기므로,
+ *   앞 묶음을 처리하는 동안 들어온 같은 사용자의 요청은 다음 묶음으로 합쳐집니다.
+ * - handler 는 요청마다 결과 또는 예외를 채워야 하며, 채우지 못한 요청은 예외로 완료됩니다.
+ */
+public class UserRequestCoalescer<T, R> {
+
+    private final ConcurrentHashMap<Long, Pending<T, R>> pendings = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final int maxBatchSize;
+    private final BatchHandler<T, R> handler;
+
+    public UserRequestCoalescer(ExecutorService workers, int maxBatchSize, BatchHandler<T, R> handler) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("묶음 크기는 1 이상이어야 합니다. maxBatchSize = " + maxBatchSize);
+        }
+        this.workers = workers;
+        this.maxBatchSize = maxBatchSize;
+        this.handler = handler;
+    }
+
+    /**
+     * 특정 유저의 대기 큐에 요청 추가
+     * @param userId
+     * @param payload
+     * @return 요청 결과
+     */
+    public CompletableFuture<R> submit(long userId, T payload) {
+        Request<T, R> request = new Request<>(payload);
+        boolean[] schedule = new boolean[1];
+        Pending<T, R> pending = pendings.compute(userId, (id, current) -> {
+            Pending<T, R> target = current == null ? new Pending<>(id) : current;
+            target.requests.add(request);
+            schedule[0] = current == null;
+            return target;
+        });
+        if (schedule[0]) {
+            workers.execute(() -> drain(pending));
+        }
+        return request.future;
+    }
+
+    /**
+     * 처리 중인 사용자 수
+     * @return 사용자 수
+     */
+    public int size() {
+        return pendings.size();
+    }
+
+    private void drain(Pending<T, R> pending) {
+        List<Request<T, R>> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            Request<T, R> request;
+            while ((request = pending.requests.poll()) != null) {
+                batch.add(request);
+                if (batch.size() == maxBatchSize) {
+                    handle(pending.userId, batch);
+                }
+            }
+            if (!batch.isEmpty()) {
+                handle(pending.userId, batch);
+            }
+            // 큐가 비었는지 확인과 제거를 submit 과 같은 락 안에서 해야 요청이 유실되지 않습니다.
+            Pending<T, R> remaining = pendings.computeIfPresent(pending.userId,
+                    (id, current) -> current.requests.isEmpty() ? null : current);
+            if (remaining == null) {
+                return;
+            }
+        }
+    }
+
+    private void handle(long userId, List<Request<T, R>> batch) {
+        try {
+            handler.handle(userId, batch);
+        } catch (Throwable e) {
+            // Error 가 drain 밖으로 나가면 사용자가 처리 중으로 남아 이후 요청이 멈추므로, 묶음의 요청에 넘기고 계속 처리합니다.
+            batch.forEach(request -> request.fail(e));
+        }
+        // 이미 완료된 요청에는 영향이 없습니다.
+        for (Request<T, R> request : batch) {
+            request.fail(new IllegalStateException("처리 결과가 없는 요청입니다. userId = " + userId));
+        }
+        batch.clear();
+    }
+
+    /**
+     * 한 유저의 요청 묶음 처리
+     */
+    @FunctionalInterface
+    public interface BatchHandler<T, R> {
+
+        /**
+         * 요청 순서대로 처리하고 요청마다 complete 또는 fail 호출
+         * @param userId
+         * @param batch
+         */
+        void handle(long userId, List<Request<T, R>> batch);
+    }
+
+    /**
+     * 묶음에 포함된 단건 요청
+     */
+    public static final class Request<T, R> {
+        private final T payload;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        private Request(T payload) {
+            this.payload = payload;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public void complete(R result) {
+            future.complete(result);
+        }
+
+        public void fail(Throwable error) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private static final class Pending<T, R> {
+        private final long userId;
+        private final Queue<Request<T, R>> requests = new ConcurrentLinkedQueue<>();
+
+        private Pending(long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.export;
+
+/**
+ * 전체 잔액/내역 내보내기 형식
+ * - NDJSON : 한 줄에 한 건씩 {"userPoint":{...}} 또는 {"history":{...}}
+ * - BINARY : 헤더("PEXP", 버전) 뒤에 고정 길이 레코드
+ *   잔액 [1][id 8][point 8][updateMillis 8], 내역 [2][id 8][userId 8][amount 8][type 1][updateMillis 8]
+ */
+public enum ExportFormat {
+    NDJSON, BINARY
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.export;
+
+/**
+ * 내보내기 결과
+ * - rowsPerSecond : (userPoints + histories) / 소요 시간
+ */
+public record ExportResult(
+        long userPoints,
+        long histories,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+}
@@ -0,0 +1,247 @@
+package io.hhplus.tdd.point.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전체 포인트 잔액과 내역 내보내기 (일 마감 대사용)
+ * - 잔액과 내역을 각각 사용자 id 순서로 한 번씩 읽습니다. 사용자 id 목록을 나누어 ForkJoinPool 에서 병렬로 읽고,
+ *   각 작업은 일정 크기의 버퍼가 찰 때마다 출력에 이어 씁니다. 메모리에는 사용자 id 목록과 작업별 버퍼만 두며 전체 데이터를 모으지 않습니다.
+ * - 잔액은 캐시를 거치지 않고, 내역은 조회용 인덱스를 채우지 않고 읽으므로 내보내기가 요청 처리용 캐시와 인덱스를 밀어내지 않습니다.
+ * - PointService 의 사용자 락을 잡지 않으므로 충전/사용을 막지 않습니다. 각 행은 읽은 시점의 값이며,
+ *   전체가 한 시점의 스냅샷은 아닙니다.
+ * - 여러 작업의 출력이 섞이므로 행 순서는 정해져 있지 않습니다.
+ */
+@Component
+public class PointExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExporter.class);
+
+    private static final int MAGIC = 0x50455850; // "PEXP"
+    private static final int VERSION = 1;
+    private static final byte USER_POINT = 1;
+    private static final byte HISTORY = 2;
+    private static final int USERS_PER_TASK = 64;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+
+    public PointExporter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        this(userPointRepository, pointHistoryRepository, new ObjectMapper(), Runtime.getRuntime().availableProcessors());
+    }
+
+    @Autowired
+    public PointExporter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                         ObjectMapper objectMapper, @Value("${point.export.parallelism:4}") int parallelism) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.objectMapper = objectMapper;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * 전체 잔액과 내역을 출력 스트림에 기록
+     * @param out 출력 (닫지 않습니다)
+     * @param format
+     * @return 기록한 행 수와 처리 속도
+     * @throws IOException
+     */
+    public ExportResult export(OutputStream out, ExportFormat format) throws IOException {
+        long start = System.nanoTime();
+        if (format == ExportFormat.BINARY) {
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+        }
+
+        long[] balanceUserIds = userPointRepository.userIds();
+        Arrays.sort(balanceUserIds);
+        long[] historyUserIds = pointHistoryRepository.userIds();
+        Counts counts = new Counts();
+        try {
+            pool.invoke(new ExportTask(balanceUserIds, 0, balanceUserIds.length, this::exportUserPoint, format, out, counts));
+            pool.invoke(new ExportTask(historyUserIds, 0, historyUserIds.length, this::exportHistories, format, out, counts));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        long userPoints = counts.userPoints.sum();
+        long histories = counts.histories.sum();
+        ExportResult result = new ExportResult(userPoints, histories, elapsedNanos / 1_000_000,
+                (userPoints + histories) * 1_000_000_000.0 / elapsedNanos);
+        log.info("포인트 내보내기를 마쳤습니다. format = {}, userPoints = {}, histories = {}, elapsed = {}ms, rows/s = {}",
+                format, userPoints, histories, result.elapsedMillis(), (long) result.rowsPerSecond());
+        return result;
+    }
+
+    /**
+     * 전체 잔액과 내역을 파일에 기록
+     * @param path
+     * @param format
+     * @return 기록한 행 수와 처리 속도
+     * @throws IOException
+     */
+    public ExportResult export(Path path, ExportFormat format) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), CHUNK_SIZE)) {
+            return export(out, format);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdown();
+    }
+
+    private void exportUserPoint(long userId, ExportFormat format, Chunk chunk, Counts counts) throws IOException {
+        UserPoint userPoint = userPointRepository.findByIdUncached(userId);
+        if (format == ExportFormat.BINARY) {
+            chunk.data.writeByte(USER_POINT);
+            chunk.data.writeLong(userPoint.id());
+            chunk.data.writeLong(userPoint.point());
+            chunk.data.writeLong(userPoint.updateMillis());
+        } else {
+            chunk.writeLine(objectMapper.writeValueAsBytes(Map.of("userPoint", userPoint)));
+        }
+        counts.userPoints.increment();
+        chunk.flushIfFull();
+    }
+
+    private void exportHistories(long userId, ExportFormat format, Chunk chunk, Counts counts) throws IOException {
+        try {
+            pointHistoryRepository.scanByUserId(userId, history -> {
+                try {
+                    writeHistory(history, format, chunk, counts);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeHistory(PointHistory history, ExportFormat format, Chunk chunk, Counts counts) throws IOException {
+        if (format == ExportFormat.BINARY) {
+            chunk.data.writeByte(HISTORY);
+            chunk.data.writeLong(history.id());
+            chunk.data.writeLong(history.userId());
+            chunk.data.writeLong(history.amount());
+            chunk.data.writeByte(history.type().ordinal());
+            chunk.data.writeLong(history.updateMillis());
+        } else {
+            chunk.writeLine(objectMapper.writeValueAsBytes(Map.of("history", history)));
+        }
+        counts.histories.increment();
+        chunk.flushIfFull();
+    }
+
+    // 사용자 한 명의 행을 버퍼에 씁니다.
+    private interface UserExport {
+        void export(long userId, ExportFormat format, Chunk chunk, Counts counts) throws IOException;
+    }
+
+    private static final class ExportTask extends RecursiveAction {
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+        private final UserExport userExport;
+        private final ExportFormat format;
+        private final OutputStream out;
+        private final Counts counts;
+
+        private ExportTask(long[] userIds, int from, int to, UserExport userExport, ExportFormat format,
+                           OutputStream out, Counts counts) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.userExport = userExport;
+            this.format = format;
+            this.out = out;
+            this.counts = counts;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > USERS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ExportTask(userIds, from, mid, userExport, format, out, counts),
+                        new ExportTask(userIds, mid, to, userExport, format, out, counts));
+                return;
+            }
+            try {
+                Chunk chunk = new Chunk(out);
+                for (int i = from; i < to; i++) {
+                    userExport.export(userIds[i], format, chunk, counts);
+                }
+                chunk.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // 작업별 버퍼. 가득 차면 출력에 한 번에 이어 쓰므로 행이 다른 작업의 행과 섞여 잘리지 않습니다.
+    private static final class Chunk {
+        private final OutputStream out;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_SIZE + 1024);
+        private final DataOutputStream data = new DataOutputStream(buffer);
+
+        private Chunk(OutputStream out) {
+            this.out = out;
+        }
+
+        private void writeLine(byte[] line) throws IOException {
+            data.write(line);
+            data.write('\n');
+        }
+
+        private void flushIfFull() throws IOException {
+            if (buffer.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            if (buffer.size() == 0) {
+                return;
+            }
+            synchronized (out) {
+                buffer.writeTo(out);
+            }
+            buffer.reset();
+        }
+    }
+
+    private static final class Counts {
+        private final LongAdder userPoints = new LongAdder();
+        private final LongAdder histories = new LongAdder();
+    }
+}
@@ -0,0 +1,190 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 primitive 배열(열)에 내역을 저장하는 저장소
+ * - 내역 한 건을 PointHistory 객체가 아닌 id/amount/updateMillis(long) 와 type(byte) 네 개의 열로 나눠 저장합니다. (25 byte)
+ *   userId 는 사용자별로 나뉘어 있으므로 저장하지 않습니다.
+ * - PointHistory 는 조회 결과를 돌려줄 때만 만듭니다.
+ * - id 는 저장소 전체에서 1 부터 증가하며, 한 사용자의 열은 id 순서이므로 커서의 위치를 이분 탐색으로 찾습니다.
+ *   시간 구간은 시각이 줄지 않는 앞부분만 이분 탐색하고, 시각이 거꾸로 간 내역(시계 조정, WAL 재생 등)부터는 끝까지 훑습니다.
+ * - 기록은 사용자 단위로 동기화하고, 조회는 락 없이 수행합니다.
+ */
+public class ColumnarHistoryStore implements HistoryStore {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ConcurrentHashMap<Long, UserColumns> users = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis,
+                               Consumer<PointHistory> beforeVisible) {
+        return users.computeIfAbsent(userId, id -> new UserColumns())
+                .append(sequence, userId, amount, type, updateMillis, beforeVisible);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        return findPageByUserId(userId, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<PointHistory> findPageByUserId(long userId, long afterId, int limit) {
+        UserColumns columns = users.get(userId);
+        if (columns == null) {
+            return List.of();
+        }
+        List<PointHistory> histories = new ArrayList<>();
+        columns.forEach(userId, afterId, limit, histories::add);
+        return Collections.unmodifiableList(histories);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, long afterId, Consumer<PointHistory> action) {
+        UserColumns columns = users.get(userId);
+        if (columns != null) {
+            columns.forEach(userId, afterId, Integer.MAX_VALUE, action);
+        }
+    }
+
+    @Override
+    public void forEachByUserIdBetween(long userId, long fromMillis, long toMillis, Consumer<PointHistory> action) {
+        UserColumns columns = users.get(userId);
+        if (columns != null) {
+            columns.forEachBetween(userId, fromMillis, toMillis, action);
+        }
+    }
+
+    @Override
+    public void scanByUserId(long userId, Consumer<PointHistory> action) {
+        forEachByUserId(userId, 0, action);
+    }
+
+    @Override
+    public long[] userIds() {
+        return users.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 저장된 내역 수
+     * @return 내역 수
+     */
+    public long size() {
+        return sequence.get();
+    }
+
+    private static final class UserColumns {
+        private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+        // columns 보다 나중에 기록되므로 size 를 먼저 읽으면 그 위치까지의 값이 보장됩니다.
+        private volatile int size;
+        // 시각이 줄지 않는 앞부분의 길이 (size 보다 먼저 기록됩니다)
+        private volatile int sortedSize;
+
+        // id 를 이 사용자의 락 안에서 받아야 열이 id 순서로 유지됩니다.
+        private synchronized PointHistory append(AtomicLong sequence, long userId, long amount, TransactionType type,
+                                                 long updateMillis, Consumer<PointHistory> beforeVisible) {
+            Columns current = columns;
+            if (size == current.ids.length) {
+                current = current.grow();
+                columns = current;
+            }
+            long id = sequence.incrementAndGet();
+            current.ids[size] = id;
+            current.amounts[size] = amount;
+            current.updateMillis[size] = updateMillis;
+            current.types[size] = (byte) type.ordinal();
+            PointHistory history = new PointHistory(id, userId, amount, type, updateMillis);
+            beforeVisible.accept(history);
+            if (sortedSize == size && (size == 0 || current.updateMillis[size - 1] <= updateMillis)) {
+                sortedSize = size + 1;
+            }
+            size = size + 1;
+            return history;
+        }
+
+        private void forEach(long userId, long afterId, int limit, Consumer<PointHistory> action) {
+            int length = size;
+            Columns current = columns;
+            int from = indexAfter(current.ids, length, afterId);
+            int to = (int) Math.min((long) from + limit, length);
+            for (int i = from; i < to; i++) {
+                action.accept(new PointHistory(current.ids[i], userId, current.amounts[i], TYPES[current.types[i]],
+                        current.updateMillis[i]));
+            }
+        }
+
+        private void forEachBetween(long userId, long fromMillis, long toMillis, Consumer<PointHistory> action) {
+            int length = size;
+            int sorted = Math.min(sortedSize, length);
+            Columns current = columns;
+            for (int i = indexFrom(current.updateMillis, sorted, fromMillis);
+                 i < sorted && current.updateMillis[i] < toMillis; i++) {
+                action.accept(new PointHistory(current.ids[i], userId, current.amounts[i], TYPES[current.types[i]],
+                        current.updateMillis[i]));
+            }
+            for (int i = sorted; i < length; i++) {
+                if (current.updateMillis[i] >= fromMillis && current.updateMillis[i] < toMillis) {
+                    action.accept(new PointHistory(current.ids[i], userId, current.amounts[i], TYPES[current.types[i]],
+                            current.updateMillis[i]));
+                }
+            }
+        }
+
+        // 같은 시각의 내역이 여러 건일 수 있으므로 첫 위치를 찾습니다.
+        private static int indexFrom(long[] updateMillis, int length, long fromMillis) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (updateMillis[mid] < fromMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static int indexAfter(long[] ids, int length, long afterId) {
+            int index = Arrays.binarySearch(ids, 0, length, afterId);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+
+    private static final class Columns {
+        private final long[] ids;
+        private final long[] amounts;
+        private final long[] updateMillis;
+        private final byte[] types;
+
+        private Columns(int capacity) {
+            this(new long[capacity], new long[capacity], new long[capacity], new byte[capacity]);
+        }
+
+        private Columns(long[] ids, long[] amounts, long[] updateMillis, byte[] types) {
+            this.ids = ids;
+            this.amounts = amounts;
+            this.updateMillis = updateMillis;
+            this.types = types;
+        }
+
+        // 이미 공개된 배열은 고치지 않고 복사본을 만들어 교체합니다.
+        private Columns grow() {
+            int capacity = ids.length + (ids.length >> 1) + 1;
+            return new Columns(Arrays.copyOf(ids, capacity), Arrays.copyOf(amounts, capacity),
+                    Arrays.copyOf(updateMillis, capacity), Arrays.copyOf(types, capacity));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 충전/이용 내역 저장 공간
+ * - PointHistoryRepository 가 write-behind 큐 뒤에서 사용합니다.
+ * - 한 사용자의 내역 id 는 기록 순서대로 증가합니다.
+ * - 한 사용자의 내역은 사용자 단위로 순서를 지켜 기록하므로(사용자 락, 메일박스, CAS 의 갱신 순서) updateMillis 도 id 순서로 증가합니다.
+ */
+public interface HistoryStore {
+
+    /**
+     * 내역 기록
+     * @param userId
+     * @param amount
+     * @param type
+     * @param updateMillis
+     * @param beforeVisible id 가 부여된 뒤, 조회에 보이기 전에 호출 (기록 대기 목록과 중복 조회되지 않도록)
+     * @return id 가 부여된 PointHistory
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis,
+                        Consumer<PointHistory> beforeVisible);
+
+    /**
+     * 특정 유저의 전체 내역 조회
+     * @param userId
+     * @return 조회한 List<PointHistory> (id 오름차순)
+     */
+    List<PointHistory> findAllByUserId(long userId);
+
+    /**
+     * 특정 유저의 내역 중 afterId 보다 큰 id 의 내역을 limit 개까지 조회
+     * @param userId
+     * @param afterId 커서 (이 id 다음부터 조회)
+     * @param limit
+     * @return 조회한 List<PointHistory>
+     */
+    List<PointHistory> findPageByUserId(long userId, long afterId, int limit);
+
+    /**
+     * 특정 유저의 내역 중 afterId 보다 큰 id 의 내역을 목록으로 만들지 않고 순회
+     * @param userId
+     * @param afterId 커서 (이 id 다음부터 순회)
+     * @param action
+     */
+    void forEachByUserId(long userId, long afterId, Consumer<PointHistory> action);
+
+    /**
+     * 특정 유저의 시간 구간 내역을 시간 순서대로 순회
+     * - 한 사용자의 내역은 시간 순서로 쌓이므로 시작 위치를 이분 탐색으로 찾고, 구간 안의 내역만 읽습니다.
+     * @param userId
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     * @param action
+     */
+    void forEachByUserIdBetween(long userId, long fromMillis, long toMillis, Consumer<PointHistory> action);
+
+    /**
+     * 내역이 있는 사용자 목록
+     * @return userId 배열 (순서 없음)
+     */
+    long[] userIds();
+
+    /**
+     * 특정 유저의 기록된 내역을 조회용 인덱스를 채우지 않고 순회 (전체 내보내기용)
+     * - 모든 사용자를 한 번씩 읽는 작업이 인덱스를 가득 채우지 않도록 합니다.
+     * @param userId
+     * @param action
+     */
+    void scanByUserId(long userId, Consumer<PointHistory> action);
+}
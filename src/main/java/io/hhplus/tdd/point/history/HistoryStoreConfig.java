@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 설정된 종류(point.history.store)의 내역 저장소 등록
+ */
+@Configuration
+public class HistoryStoreConfig {
+
+    @Bean
+    public HistoryStore historyStore(PointHistoryTable pointHistoryTable, PointMetrics pointMetrics,
+                                     @Value("${point.history.store:table}") HistoryStoreType type) {
+        return switch (type) {
+            case TABLE -> new TableHistoryStore(pointHistoryTable, pointMetrics);
+            case COLUMNAR -> new ColumnarHistoryStore();
+        };
+    }
+}
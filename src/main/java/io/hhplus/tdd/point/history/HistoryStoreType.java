@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.history;
+
+/**
+ * 내역 저장소 종류
+ * - TABLE : PointHistoryTable + 사용자별 인덱스 (TableHistoryStore)
+ * - COLUMNAR : 사용자별 primitive 배열 (ColumnarHistoryStore)
+ */
+public enum HistoryStoreType {
+    TABLE, COLUMNAR
+}
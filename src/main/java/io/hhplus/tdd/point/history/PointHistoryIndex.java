@@ -0,0 +1,221 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 포인트 내역 인덱스
+ * - userId 별로 append-only 배열을 유지하여 조회 비용이 전체 내역이 아닌 해당 사용자의 내역 수에만 비례합니다.
+ * - 사용자별 인덱스는 기록 시점에 추가됩니다. (테이블에 미리 있던 내역은 처음 조회될 때 한 번 적재)
+ * - 추가는 단일 기록 스레드에서, 조회는 여러 스레드에서 락 없이 수행됩니다.
+ * - 시간 구간 조회는 시각이 줄지 않는 앞부분만 이분 탐색하고, 시각이 거꾸로 간 내역(시계 조정, WAL 재생 등)부터는 끝까지 훑습니다.
+ */
+public class PointHistoryIndex {
+
+    private final ConcurrentHashMap<Long, UserHistories> histories = new ConcurrentHashMap<>();
+
+    /**
+     * 특정 유저의 내역 조회
+     * @param userId
+     * @return 적재되지 않은 사용자면 null
+     */
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserHistories userHistories = histories.get(userId);
+        return userHistories == null ? null : userHistories.snapshot();
+    }
+
+    /**
+     * 특정 유저의 내역 중 afterId 보다 큰 id 의 내역을 limit 개까지 조회
+     * @param userId
+     * @param afterId 커서 (이 id 다음부터 조회)
+     * @param limit
+     * @return 적재되지 않은 사용자면 null
+     */
+    public List<PointHistory> findPageByUserId(long userId, long afterId, int limit) {
+        UserHistories userHistories = histories.get(userId);
+        return userHistories == null ? null : userHistories.page(afterId, limit);
+    }
+
+    /**
+     * 특정 유저의 내역 중 afterId 보다 큰 id 의 내역을 복사 없이 순회
+     * @param userId
+     * @param afterId 커서 (이 id 다음부터 순회)
+     * @param action
+     * @return 적재되지 않은 사용자면 false
+     */
+    public boolean forEachByUserId(long userId, long afterId, Consumer<PointHistory> action) {
+        UserHistories userHistories = histories.get(userId);
+        if (userHistories == null) {
+            return false;
+        }
+        userHistories.forEach(afterId, action);
+        return true;
+    }
+
+    /**
+     * 특정 유저의 시간 구간 내역을 복사 없이 순회
+     * @param userId
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     * @param action
+     * @return 적재되지 않은 사용자면 false
+     */
+    public boolean forEachByUserIdBetween(long userId, long fromMillis, long toMillis, Consumer<PointHistory> action) {
+        UserHistories userHistories = histories.get(userId);
+        if (userHistories == null) {
+            return false;
+        }
+        userHistories.forEachBetween(fromMillis, toMillis, action);
+        return true;
+    }
+
+    /**
+     * 적재된 사용자 목록
+     * @return userId 배열 (순서 없음)
+     */
+    public long[] userIds() {
+        return histories.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 테이블에서 읽은 내역으로 특정 유저의 인덱스 적재
+     * - 이미 적재된 사용자면 기존 인덱스를 그대로 사용합니다.
+     * @param userId
+     * @param rows 해당 사용자의 전체 내역 (id 오름차순)
+     * @return 적재된 내역
+     */
+    public List<PointHistory> load(long userId, List<PointHistory> rows) {
+        return histories.computeIfAbsent(userId, id -> new UserHistories(rows)).snapshot();
+    }
+
+    /**
+     * 테이블에 기록된 내역 추가
+     * - 아직 적재되지 않은 사용자는 다음 조회 시 테이블에서 함께 적재되므로 건너뜁니다.
+     * @param history
+     */
+    public void append(PointHistory history) {
+        UserHistories userHistories = histories.get(history.userId());
+        if (userHistories != null) {
+            userHistories.append(history);
+        }
+    }
+
+    /**
+     * 테이블에 기록된 내역 추가
+     * - 아직 없는 사용자면 새로 만듭니다. (테이블의 모든 내역이 인덱스를 거쳐 기록되는 경우)
+     * @param history
+     */
+    public void appendOrCreate(PointHistory history) {
+        histories.computeIfAbsent(history.userId(), id -> new UserHistories(List.of())).append(history);
+    }
+
+    /**
+     * 적재된 사용자 수
+     * @return 사용자 수
+     */
+    public int size() {
+        return histories.size();
+    }
+
+    private static final class UserHistories {
+        private volatile PointHistory[] items;
+        // items 보다 나중에 기록되므로 size 를 먼저 읽으면 그 위치까지의 내역이 보장됩니다.
+        private volatile int size;
+        // 시각이 줄지 않는 앞부분의 길이 (size 보다 먼저 기록됩니다)
+        private volatile int sortedSize;
+
+        private UserHistories(List<PointHistory> rows) {
+            this.items = rows.toArray(new PointHistory[Math.max(rows.size(), 8)]);
+            int sorted = rows.isEmpty() ? 0 : 1;
+            while (sorted < rows.size() && rows.get(sorted - 1).updateMillis() <= rows.get(sorted).updateMillis()) {
+                sorted++;
+            }
+            this.sortedSize = sorted;
+            this.size = rows.size();
+        }
+
+        private synchronized void append(PointHistory history) {
+            PointHistory[] current = items;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[size] = history;
+            items = current;
+            if (sortedSize == size && (size == 0 || current[size - 1].updateMillis() <= history.updateMillis())) {
+                sortedSize = size + 1;
+            }
+            size = size + 1;
+        }
+
+        private List<PointHistory> snapshot() {
+            int length = size;
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(items, length)));
+        }
+
+        private List<PointHistory> page(long afterId, int limit) {
+            int length = size;
+            PointHistory[] current = items;
+            int from = indexAfter(current, length, afterId);
+            int to = (int) Math.min((long) from + limit, length);
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(current, from, to)));
+        }
+
+        private void forEach(long afterId, Consumer<PointHistory> action) {
+            int length = size;
+            PointHistory[] current = items;
+            for (int i = indexAfter(current, length, afterId); i < length; i++) {
+                action.accept(current[i]);
+            }
+        }
+
+        private void forEachBetween(long fromMillis, long toMillis, Consumer<PointHistory> action) {
+            int length = size;
+            int sorted = Math.min(sortedSize, length);
+            PointHistory[] current = items;
+            for (int i = indexFrom(current, sorted, fromMillis); i < sorted && current[i].updateMillis() < toMillis; i++) {
+                action.accept(current[i]);
+            }
+            for (int i = sorted; i < length; i++) {
+                long updateMillis = current[i].updateMillis();
+                if (updateMillis >= fromMillis && updateMillis < toMillis) {
+                    action.accept(current[i]);
+                }
+            }
+        }
+
+        // 앞부분은 시각도 기록 순서대로 쌓이므로 이분 탐색으로 구간의 첫 위치를 찾습니다.
+        private static int indexFrom(PointHistory[] current, int length, long fromMillis) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current[mid].updateMillis() < fromMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // id 는 기록 순서대로 증가하므로 이분 탐색으로 커서 위치를 찾습니다.
+        private static int indexAfter(PointHistory[] current, int length, long afterId) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current[mid].id() <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
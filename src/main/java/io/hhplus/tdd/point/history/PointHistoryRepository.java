@@ -0,0 +1,443 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 충전/이용 내역 저장소
+ * - write-behind 모드에서는 내역을 제한된 크기의 큐에 넣고 즉시 반환하며, 백그라운드 스레드가 배치 단위로 내역 저장소(HistoryStore)에 기록합니다.
+ * - 조회 시에는 아직 기록되지 않은 내역도 함께 반환합니다. 기록 전 내역의 id 는 0 입니다.
+ *   기록 대기 중인 내역은 사용자별 큐에 두므로, 조회는 해당 사용자의 대기 내역만 읽고 기록이 끝난 내역은 큐의 맨 앞에서 제거합니다.
+ * - 큐가 가득 차면 기록 요청이 대기하여 메모리 사용량을 제한합니다.
+ * - 저장소 기록에 실패하면 같은 자리에서 몇 차례 다시 시도하고(사용자별 id 순서 유지), 끝내 실패한 내역은 로그와 지표로 남깁니다.
+ * - 백그라운드 스레드가 인터럽트되면 무시하고 계속 기록하며, 스레드가 죽으면 기록은 요청 스레드에서 바로 수행하고 flush 는 대기하지 않고 실패합니다.
+ * - 기록된 내역은 사용자별로 조회하므로 전체 내역을 매번 스캔하지 않습니다.
+ * - 사용자별 요약(합계, 건수, 마지막 시각)은 기록할 때마다 갱신하므로 내역을 다시 읽지 않고 조회합니다.
+ * - 시간 구간 조회는 저장소의 사용자별 내역(시간 순서)에서 구간의 시작 위치를 이분 탐색으로 찾으므로, 별도의 시간 인덱스를 두지 않습니다.
+ */
+@Component
+public class PointHistoryRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryRepository.class);
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 10;
+
+    private final HistoryStore historyStore;
+    private final PointMetrics pointMetrics;
+    private final int batchSize;
+
+    private final BlockingQueue<PendingHistory> queue;
+    // 큐에 들어간 뒤 저장소 기록이 끝나기 전까지의 사용자별 내역 (조회용, 사용자마다 기록 순서)
+    private final ConcurrentHashMap<Long, Queue<PendingHistory>> pending = new ConcurrentHashMap<>();
+    private final PointSummaryIndex pointSummaryIndex = new PointSummaryIndex();
+    private final Object flushMonitor = new Object();
+    private final AtomicLong failedWrites = new AtomicLong();
+
+    private final Thread drainer;
+    private volatile boolean running;
+
+    public PointHistoryRepository(PointHistoryTable pointHistoryTable) {
+        this(new TableHistoryStore(pointHistoryTable, PointMetrics.simple()), false, 1, 1, PointMetrics.simple());
+    }
+
+    @Autowired
+    public PointHistoryRepository(HistoryStore historyStore,
+                                  @Value("${point.history.write-behind.enabled:true}") boolean writeBehind,
+                                  @Value("${point.history.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${point.history.write-behind.batch-size:100}") int batchSize,
+                                  PointMetrics pointMetrics) {
+        this.historyStore = historyStore;
+        this.pointMetrics = pointMetrics;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = writeBehind;
+        this.drainer = new Thread(this::drain, "point-history-writer");
+        pointMetrics.gauge("point.history.queue.size", "기록 대기 중인 포인트 내역 수", queue, BlockingQueue::size);
+        pointMetrics.functionCounter("point.history.write.failed", "다시 시도해도 기록하지 못한 포인트 내역 수",
+                failedWrites, AtomicLong::get);
+        if (writeBehind) {
+            drainer.setDaemon(true);
+            drainer.start();
+        }
+    }
+
+    /**
+     * 충전/이용 내역 기록
+     * - write-behind 모드에서는 큐에 넣고 바로 반환합니다.
+     * - 동기 모드(또는 백그라운드 스레드가 죽은 경우)에서 끝내 기록하지 못하면 예외를 던집니다.
+     * @param userId
+     * @param amount
+     * @param type
+     * @param updateMillis
+     */
+    public void record(long userId, long amount, TransactionType type, long updateMillis) {
+        PendingHistory history = new PendingHistory(userId, amount, type, updateMillis);
+        pointSummaryIndex.record(userId, amount, type, updateMillis, () -> addPending(history));
+        if (!running || !drainer.isAlive()) {
+            if (!write(history)) {
+                throw new IllegalStateException("포인트 내역을 기록하지 못했습니다. userId = " + userId);
+            }
+            return;
+        }
+        try {
+            queue.put(history);
+        } catch (InterruptedException e) {
+            removePending(history);
+            history.done = true;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 내역 기록이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 특정 유저의 충전/이용 내역 조회 (기록 대기 중인 내역 포함)
+     * @param userId
+     * @return 조회한 List<PointHistory>
+     */
+    public List<PointHistory> findAllByUserId(long userId) {
+        // 대기 목록을 먼저 읽어야 그 사이 테이블로 옮겨진 내역을 놓치지 않습니다.
+        List<PendingHistory> queued = pending(userId);
+        List<PointHistory> written = historyStore.findAllByUserId(userId);
+        if (queued.isEmpty()) {
+            return written;
+        }
+
+        long lastWrittenId = written.isEmpty() ? 0 : written.get(written.size() - 1).id();
+        List<PointHistory> histories = new ArrayList<>(written);
+        for (PendingHistory history : queued) {
+            PointHistory saved = history.saved;
+            if (saved == null) {
+                histories.add(history.toPointHistory());
+            } else if (saved.id() > lastWrittenId) {
+                histories.add(saved);
+            }
+        }
+        return histories;
+    }
+
+    /**
+     * 특정 유저의 내역을 커서 기준으로 조회
+     * - 커서는 PointHistory.id 이므로, 조회 시점에 기록 대기 중인 이 사용자의 내역이 기록될 때까지 기다린 뒤 조회합니다.
+     *   다른 사용자의 대기 내역은 기다리지 않습니다.
+     * @param userId
+     * @param afterId 커서 (이 id 다음부터 조회)
+     * @param limit
+     * @return 조회한 List<PointHistory>
+     */
+    public List<PointHistory> findPageByUserId(long userId, long afterId, int limit) {
+        awaitPending(userId);
+        return historyStore.findPageByUserId(userId, afterId, limit);
+    }
+
+    /**
+     * 특정 유저의 내역을 목록으로 만들지 않고 순서대로 전달
+     * - 기록된 내역을 먼저 전달한 뒤, 기록 대기 중인 내역을 전달합니다.
+     * @param userId
+     * @param afterId 커서 (이 id 다음부터 전달)
+     * @param action
+     */
+    public void forEachByUserId(long userId, long afterId, Consumer<PointHistory> action) {
+        List<PendingHistory> queued = pending(userId);
+        forEachWithPending(afterId, written -> historyStore.forEachByUserId(userId, afterId, written), queued, action);
+    }
+
+    /**
+     * 특정 유저의 내역을 조회용 인덱스를 채우지 않고 순서대로 전달 (전체 내보내기용, 기록 대기 중인 내역 포함)
+     * @param userId
+     * @param action
+     */
+    public void scanByUserId(long userId, Consumer<PointHistory> action) {
+        List<PendingHistory> queued = pending(userId);
+        forEachWithPending(0, written -> historyStore.scanByUserId(userId, written), queued, action);
+    }
+
+    /**
+     * 내역이 있는 사용자 목록 (기록 대기 중인 내역의 사용자 포함)
+     * @return userId 배열 (오름차순)
+     */
+    public long[] userIds() {
+        Set<Long> userIds = new HashSet<>(pending.keySet());
+        for (long userId : historyStore.userIds()) {
+            userIds.add(userId);
+        }
+        return userIds.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    /**
+     * 특정 유저의 시간 구간 내역 조회 (기록 대기 중인 내역 포함)
+     * @param userId
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     * @return 시간 순서의 List<PointHistory>
+     */
+    public List<PointHistory> findByUserIdBetween(long userId, long fromMillis, long toMillis) {
+        List<PendingHistory> queued = pending(userId).stream()
+                .filter(history -> history.isBetween(fromMillis, toMillis))
+                .toList();
+        List<PointHistory> histories = new ArrayList<>();
+        forEachByUserIdBetween(userId, fromMillis, toMillis, queued, histories::add);
+        return histories;
+    }
+
+    /**
+     * 전체 사용자의 시간 구간 내역을 전달 (배치 작업용, 기록 대기 중인 내역 포함)
+     * - 사용자마다 시간 구간의 시작 위치를 이분 탐색으로 찾으므로, 전체 내역이 아닌 사용자 수와 구간 안의 내역 수에 비례합니다.
+     * - 사용자 단위로 전달하며, 한 사용자의 내역은 시간 순서입니다. (사용자 사이의 순서는 정해져 있지 않습니다)
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     * @param action
+     */
+    public void forEachBetween(long fromMillis, long toMillis, Consumer<PointHistory> action) {
+        Map<Long, List<PendingHistory>> queued = new LinkedHashMap<>();
+        pending.forEach((userId, histories) -> {
+            List<PendingHistory> between = histories.stream().filter(history -> history.isBetween(fromMillis, toMillis)).toList();
+            if (!between.isEmpty()) {
+                queued.put(userId, between);
+            }
+        });
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (long userId : historyStore.userIds()) {
+            userIds.add(userId);
+        }
+        // 아직 저장소에 기록된 내역이 없는 사용자도 대기 중인 내역은 전달합니다.
+        userIds.addAll(queued.keySet());
+        for (long userId : userIds) {
+            forEachByUserIdBetween(userId, fromMillis, toMillis, queued.getOrDefault(userId, List.of()), action);
+        }
+    }
+
+    private void forEachByUserIdBetween(long userId, long fromMillis, long toMillis, List<PendingHistory> queued,
+                                        Consumer<PointHistory> action) {
+        forEachWithPending(0, written -> historyStore.forEachByUserIdBetween(userId, fromMillis, toMillis, written),
+                queued, action);
+    }
+
+    // 기록된 내역을 먼저 전달한 뒤 대기 목록(먼저 읽어 둔 것)의 내역을 전달합니다.
+    // 대기 목록을 읽은 뒤 기록된 내역은 저장소에서 읽은 내역보다 id 가 크므로 id 로 중복을 거릅니다.
+    private static void forEachWithPending(long afterId, Consumer<Consumer<PointHistory>> written,
+                                           List<PendingHistory> queued, Consumer<PointHistory> action) {
+        long[] lastWrittenId = {afterId};
+        written.accept(history -> {
+            lastWrittenId[0] = history.id();
+            action.accept(history);
+        });
+        for (PendingHistory history : queued) {
+            PointHistory saved = history.saved;
+            if (saved == null) {
+                action.accept(history.toPointHistory());
+            } else if (saved.id() > lastWrittenId[0]) {
+                action.accept(saved);
+            }
+        }
+    }
+
+    /**
+     * 특정 유저의 충전/사용 요약 조회
+     * - 처음 조회하는 사용자는 전체 내역으로 한 번 계산하고, 이후에는 기록할 때마다 갱신된 값을 반환합니다.
+     * @param userId
+     * @return 조회한 PointSummary
+     */
+    public PointSummary findSummaryByUserId(long userId) {
+        return pointSummaryIndex.find(userId, action -> forEachByUserId(userId, 0, action));
+    }
+
+    /**
+     * 특정 유저의 충전/사용 요약을 전체 내역(기록 대기 중인 내역 포함)으로 다시 계산
+     * @param userId
+     * @return 다시 계산한 PointSummary
+     */
+    public PointSummary rebuildSummary(long userId) {
+        return pointSummaryIndex.rebuild(userId, action -> forEachByUserId(userId, 0, action));
+    }
+
+    /**
+     * 기록 대기 중인 내역이 모두 저장소에 기록될 때까지 대기
+     * - 백그라운드 스레드가 죽어 남은 내역을 기록할 수 없으면 대기하지 않고 실패합니다.
+     */
+    public void flush() throws InterruptedException {
+        // 동기 모드에서는 record 가 반환될 때 이미 기록되어 있습니다.
+        if (!running) {
+            return;
+        }
+        synchronized (flushMonitor) {
+            while (!pending.isEmpty()) {
+                if (!drainer.isAlive()) {
+                    throw new IllegalStateException("포인트 내역 기록 스레드가 종료되어 남은 내역을 기록할 수 없습니다. 남은 내역 = "
+                            + queue.size());
+                }
+                flushMonitor.wait(100);
+            }
+        }
+    }
+
+    /**
+     * 다시 시도해도 기록하지 못한 내역 수
+     * @return 누적 실패 수
+     */
+    public long failedWrites() {
+        return failedWrites.get();
+    }
+
+    /**
+     * 종료 시 대기 중인 내역을 모두 기록한 뒤 백그라운드 스레드를 정리
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        drainer.join();
+        // 종료 직전에 들어온 내역까지 기록합니다.
+        PendingHistory history;
+        while ((history = queue.poll()) != null) {
+            write(history);
+        }
+    }
+
+    private void drain() {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::write);
+            } catch (InterruptedException e) {
+                // 종료는 running 으로만 알리므로, 인터럽트로 남은 내역을 버리지 않고 계속 기록합니다.
+                log.warn("포인트 내역 기록 스레드가 인터럽트되었지만 계속 기록합니다. 남은 내역 = {}", queue.size());
+            } finally {
+                batch.clear();
+                synchronized (flushMonitor) {
+                    flushMonitor.notifyAll();
+                }
+            }
+        }
+    }
+
+    // 뒤로 미뤄 다시 넣으면 같은 사용자의 내역 순서가 바뀌므로, 그 자리에서 다시 시도합니다.
+    private boolean write(PendingHistory history) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    // 저장소에서 조회되기 전에 saved 를 채워야 조회 시 중복되지 않습니다.
+                    pointMetrics.recordPointHistoryInsert(() -> historyStore.insert(history.userId, history.amount,
+                            history.type, history.updateMillis, saved -> history.saved = saved));
+                    return true;
+                } catch (RuntimeException e) {
+                    if (attempt >= MAX_WRITE_ATTEMPTS) {
+                        failedWrites.incrementAndGet();
+                        log.error("포인트 내역을 기록하지 못했습니다. userId = {}, amount = {}, type = {}, updateMillis = {}",
+                                history.userId, history.amount, history.type, history.updateMillis, e);
+                        return false;
+                    }
+                    log.warn("포인트 내역 기록에 실패하여 다시 시도합니다. userId = {}, attempt = {}", history.userId, attempt, e);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_BACKOFF_MILLIS * attempt));
+                }
+            }
+        } finally {
+            removePending(history);
+            history.done = true;
+        }
+    }
+
+    // 같은 사용자의 내역은 기록 순서대로 큐에 넣습니다. (요약 갱신과 같은 락 안에서 호출)
+    private void addPending(PendingHistory history) {
+        pending.computeIfAbsent(history.userId, userId -> new ConcurrentLinkedQueue<>()).add(history);
+    }
+
+    // 같은 사용자의 내역은 큐에 넣은 순서대로 기록하므로 보통 맨 앞의 내역이며, 비면 사용자를 지웁니다.
+    private void removePending(PendingHistory history) {
+        pending.computeIfPresent(history.userId, (userId, histories) -> {
+            if (histories.peek() == history) {
+                histories.poll();
+            } else {
+                histories.remove(history);
+            }
+            return histories.isEmpty() ? null : histories;
+        });
+    }
+
+    // 같은 사용자의 내역은 순서대로 기록하므로, 지금 대기 중인 마지막 내역이 끝나면 앞의 내역도 모두 끝난 것입니다.
+    private void awaitPending(long userId) {
+        List<PendingHistory> queued = pending(userId);
+        if (queued.isEmpty()) {
+            return;
+        }
+        PendingHistory last = queued.get(queued.size() - 1);
+        synchronized (flushMonitor) {
+            while (!last.done) {
+                if (running && !drainer.isAlive()) {
+                    throw new IllegalStateException("포인트 내역 기록 스레드가 종료되어 남은 내역을 기록할 수 없습니다. userId = " + userId);
+                }
+                try {
+                    // 동기 모드에서는 알림이 없으므로 짧게 기다리며 확인합니다.
+                    flushMonitor.wait(running ? 100 : 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("포인트 내역 조회가 중단되었습니다.", e);
+                }
+            }
+        }
+    }
+
+    private List<PendingHistory> pending(long userId) {
+        Queue<PendingHistory> histories = pending.get(userId);
+        return histories == null ? List.of() : List.copyOf(histories);
+    }
+
+    private static final class PendingHistory {
+        private final long userId;
+        private final long amount;
+        private final TransactionType type;
+        private final long updateMillis;
+        // 저장소에 기록된 뒤 채워집니다.
+        private volatile PointHistory saved;
+        // 기록에 성공하거나 끝내 실패해 대기 목록에서 빠지면 true 입니다.
+        private volatile boolean done;
+
+        private PendingHistory(long userId, long amount, TransactionType type, long updateMillis) {
+            this.userId = userId;
+            this.amount = amount;
+            this.type = type;
+            this.updateMillis = updateMillis;
+        }
+
+        private boolean isBetween(long fromMillis, long toMillis) {
+            return updateMillis >= fromMillis && updateMillis < toMillis;
+        }
+
+        private PointHistory toPointHistory() {
+            return new PointHistory(0, userId, amount, type, updateMillis);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 포인트 요약 인덱스
+ * - 충전/사용 합계, 건수, 마지막 시각을 내역이 기록될 때마다 갱신하므로 조회 비용은 내역 수와 무관합니다.
+ * - 사용자별 요약은 처음 조회될 때 전체 내역에서 한 번 계산되고(rebuild), 이후에는 기록 시점에 갱신됩니다.
+ * - 기록과 재계산은 사용자 구간(stripe) 락으로 직렬화하여, 재계산 중인 내역이 빠지거나 두 번 더해지지 않습니다.
+ */
+public class PointSummaryIndex {
+
+    private static final int STRIPES = 64;
+
+    private final ConcurrentHashMap<Long, UserSummary> summaries = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[STRIPES];
+
+    public PointSummaryIndex() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 내역 기록 반영
+     * - publish 로 내역을 조회 가능하게 만드는 것과 요약 갱신을 같은 락 안에서 수행합니다.
+     * - 아직 계산되지 않은 사용자는 다음 조회 시 내역에서 함께 계산되므로 건너뜁니다.
+     * @param userId
+     * @param amount
+     * @param type
+     * @param updateMillis
+     * @param publish 내역을 조회 대상에 추가
+     */
+    public void record(long userId, long amount, TransactionType type, long updateMillis, Runnable publish) {
+        synchronized (lock(userId)) {
+            publish.run();
+            UserSummary summary = summaries.get(userId);
+            if (summary != null) {
+                summary.add(amount, type, updateMillis);
+            }
+        }
+    }
+
+    /**
+     * 특정 유저의 요약 조회
+     * @param userId
+     * @param histories 계산되지 않은 사용자면 전체 내역을 순회할 함수
+     * @return 조회한 PointSummary
+     */
+    public PointSummary find(long userId, Consumer<Consumer<PointHistory>> histories) {
+        synchronized (lock(userId)) {
+            UserSummary summary = summaries.get(userId);
+            if (summary != null) {
+                return summary.toPointSummary(userId);
+            }
+        }
+        return rebuild(userId, histories);
+    }
+
+    /**
+     * 전체 내역으로 특정 유저의 요약 재계산
+     * @param userId
+     * @param histories 전체 내역을 순회할 함수
+     * @return 재계산한 PointSummary
+     */
+    public PointSummary rebuild(long userId, Consumer<Consumer<PointHistory>> histories) {
+        synchronized (lock(userId)) {
+            UserSummary summary = new UserSummary();
+            histories.accept(history -> summary.add(history.amount(), history.type(), history.updateMillis()));
+            summaries.put(userId, summary);
+            return summary.toPointSummary(userId);
+        }
+    }
+
+    /**
+     * 계산된 사용자 수
+     * @return 사용자 수
+     */
+    public int size() {
+        return summaries.size();
+    }
+
+    private Object lock(long userId) {
+        return locks[(int) (userId ^ (userId >>> 32)) & (STRIPES - 1)];
+    }
+
+    // 사용자 구간 락 안에서만 사용합니다.
+    private static final class UserSummary {
+        private long totalCharged;
+        private long totalUsed;
+        private long transactionCount;
+        private long lastActivityMillis;
+
+        private void add(long amount, TransactionType type, long updateMillis) {
+            if (type == TransactionType.CHARGE) {
+                totalCharged += amount;
+            } else {
+                totalUsed += amount;
+            }
+            transactionCount++;
+            lastActivityMillis = Math.max(lastActivityMillis, updateMillis);
+        }
+
+        private PointSummary toPointSummary(long userId) {
+            return new PointSummary(userId, totalCharged, totalUsed, transactionCount, lastActivityMillis);
+        }
+    }
+}
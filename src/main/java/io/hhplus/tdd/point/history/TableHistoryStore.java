@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * PointHistoryTable 에 기록하고 사용자별 인덱스로 조회하는 내역 저장소
+ * - 기록할 때마다 사용자별 인덱스에 함께 추가하므로, 조회는 테이블을 스캔하지 않습니다.
+ * - 첫 기록의 id 가 1 이 아니면 이 저장소를 거치지 않은 내역이 테이블에 미리 있던 것이므로,
+ *   그 경우에만 사용자별 인덱스를 처음 조회될 때 테이블에서 한 번 적재합니다.
+ */
+public class TableHistoryStore implements HistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private final PointMetrics pointMetrics;
+    // PointHistoryTable 은 스레드 안전하지 않으므로 기록과 조회를 분리합니다.
+    private final ReentrantReadWriteLock tableLock = new ReentrantReadWriteLock();
+    // 첫 기록 전에는 테이블에 미리 있던 내역이 있는지 알 수 없으므로 적재 방식을 사용합니다.
+    private boolean started;
+    // 인덱스가 테이블의 모든 내역을 담고 있는지 여부
+    private volatile boolean complete;
+
+    public TableHistoryStore(PointHistoryTable pointHistoryTable, PointMetrics pointMetrics) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis,
+                               Consumer<PointHistory> beforeVisible) {
+        tableLock.writeLock().lock();
+        try {
+            PointHistory saved = pointHistoryTable.insert(userId, amount, type, updateMillis);
+            if (!started) {
+                started = true;
+                complete = saved.id() == 1;
+            }
+            beforeVisible.accept(saved);
+            if (complete) {
+                pointHistoryIndex.appendOrCreate(saved);
+            } else {
+                pointHistoryIndex.append(saved);
+            }
+            return saved;
+        } finally {
+            tableLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        return ensureLoaded(userId);
+    }
+
+    @Override
+    public List<PointHistory> findPageByUserId(long userId, long afterId, int limit) {
+        ensureLoaded(userId);
+        return pointHistoryIndex.findPageByUserId(userId, afterId, limit);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, long afterId, Consumer<PointHistory> action) {
+        ensureLoaded(userId);
+        pointHistoryIndex.forEachByUserId(userId, afterId, action);
+    }
+
+    @Override
+    public void forEachByUserIdBetween(long userId, long fromMillis, long toMillis, Consumer<PointHistory> action) {
+        ensureLoaded(userId);
+        pointHistoryIndex.forEachByUserIdBetween(userId, fromMillis, toMillis, action);
+    }
+
+    /**
+     * 인덱스에 적재된 사용자는 인덱스에서 읽고, 적재되지 않은 사용자는 테이블에서 읽되 인덱스에 적재하지 않습니다.
+     * - 테이블 API 는 사용자별 조회만 제공하므로, 테이블에 미리 있던 내역을 읽을 때만 사용자마다 테이블을 스캔합니다.
+     */
+    @Override
+    public void scanByUserId(long userId, Consumer<PointHistory> action) {
+        if (pointHistoryIndex.forEachByUserId(userId, 0, action) || complete) {
+            return;
+        }
+        List<PointHistory> rows;
+        tableLock.readLock().lock();
+        try {
+            rows = pointMetrics.recordPointHistorySelect(() -> pointHistoryTable.selectAllByUserId(userId));
+        } finally {
+            tableLock.readLock().unlock();
+        }
+        rows.forEach(action);
+    }
+
+    /**
+     * 인덱스에 있는 사용자 목록
+     * - 테이블 API 로는 사용자 목록을 알 수 없으므로, 테이블에 미리 있던 내역은 한 번 조회되어 적재된 사용자만 포함합니다.
+     */
+    @Override
+    public long[] userIds() {
+        return pointHistoryIndex.userIds();
+    }
+
+    private List<PointHistory> ensureLoaded(long userId) {
+        List<PointHistory> indexed = pointHistoryIndex.findAllByUserId(userId);
+        if (indexed != null) {
+            return indexed;
+        }
+        if (complete) {
+            return List.of();
+        }
+        // 적재 중에는 기록이 끼어들지 않도록 읽기 락을 잡습니다.
+        tableLock.readLock().lock();
+        try {
+            List<PointHistory> rows = pointMetrics.recordPointHistorySelect(() -> pointHistoryTable.selectAllByUserId(userId));
+            return pointHistoryIndex.load(userId, rows);
+        } finally {
+            tableLock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.hotkey;
+
+/**
+ * 요청이 몰리는 사용자
+ * @param userId
+ * @param count 시간 창 안의 추정 호출 수 (실제보다 작지 않음)
+ */
+public record HotKey(
+        long userId,
+        long count
+) {
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청이 몰리는 사용자 조회 (GET /actuator/hotkeys)
+ */
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    public HotKeyEndpoint(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @ReadOperation
+    public HotKeyReport hotKeys() {
+        return hotKeyTracker.topK();
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.hotkey;
+
+import java.util.List;
+
+/**
+ * 시간 창 안에서 호출이 가장 많은 사용자 목록
+ * @param windowSeconds 시간 창 길이
+ * @param users 추정 호출 수가 많은 순서
+ */
+public record HotKeyReport(
+        long windowSeconds,
+        List<HotKey> users
+) {
+}
@@ -0,0 +1,238 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 충전/사용/조회가 몰리는 사용자(hot key) 추적
+ * - 시간 창을 bucket 개 구간으로 나누고, 구간마다 count-min sketch 와 top-K 후보를 둡니다.
+ *   지난 구간은 새 구간으로 교체하므로 메모리는 사용자 수와 관계없이 일정합니다. (구간 × depth × width × 8 byte)
+ * - 구간 교체는 새 구간을 만들어 compare-and-set 으로 바꿔 끼우므로, 기록은 락 없이 depth 번의 증가만 합니다.
+ *   이미 지난 구간을 기준으로 기록하던 요청은 새 구간에 쓰지 않고 버립니다.
+ * - count-min 추정값은 실제 호출 수보다 작지 않으며, 다른 사용자와 겹친 만큼 크게 나올 수 있습니다.
+ * - 이미 후보인 사용자와 후보 최솟값 이하인 사용자는 락 없이 기록하므로, 요청이 몰린 사용자가 서로 막지 않습니다.
+ * - 컨트롤러가 요청을 받자마자 기록하므로, 요청 수 제한(429)으로 거절된 요청도 포함하며 실행 방식과 관계없이 도착 시점에 집계합니다.
+ */
+@Component
+public class HotKeyTracker {
+
+    private final boolean enabled;
+    private final int topK;
+    private final long bucketMillis;
+    private final int depth;
+    private final int width;
+    private final LongSupplier clockMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public HotKeyTracker(int topK, long windowSeconds, int bucketCount, int depth, int width, LongSupplier clockMillis) {
+        this(true, topK, windowSeconds, bucketCount, depth, width, clockMillis);
+    }
+
+    @Autowired
+    public HotKeyTracker(@Value("${point.hotkey.enabled:true}") boolean enabled,
+                         @Value("${point.hotkey.top-k:20}") int topK,
+                         @Value("${point.hotkey.window-seconds:60}") long windowSeconds,
+                         @Value("${point.hotkey.buckets:6}") int bucketCount,
+                         @Value("${point.hotkey.depth:4}") int depth,
+                         @Value("${point.hotkey.width:2048}") int width) {
+        this(enabled, topK, windowSeconds, bucketCount, depth, width, System::currentTimeMillis);
+    }
+
+    private HotKeyTracker(boolean enabled, int topK, long windowSeconds, int bucketCount, int depth, int width,
+                          LongSupplier clockMillis) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width 는 2 의 거듭제곱이어야 합니다. width = " + width);
+        }
+        this.enabled = enabled;
+        this.topK = topK;
+        this.bucketMillis = Math.max(1, windowSeconds * 1000 / bucketCount);
+        this.depth = depth;
+        this.width = width;
+        this.clockMillis = clockMillis;
+        this.buckets = new AtomicReferenceArray<>(enabled ? bucketCount : 0);
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, new Bucket(Long.MIN_VALUE, depth * width));
+        }
+    }
+
+    /**
+     * 기록하지 않는 추적기 (스프링 컨텍스트 밖에서 사용)
+     * @return HotKeyTracker
+     */
+    public static HotKeyTracker disabled() {
+        return new HotKeyTracker(false, 1, 1, 1, 1, 1, System::currentTimeMillis);
+    }
+
+    /**
+     * 사용자 호출 한 건 기록
+     * @param userId
+     */
+    public void record(long userId) {
+        if (!enabled) {
+            return;
+        }
+        long epoch = clockMillis.getAsLong() / bucketMillis;
+        Bucket bucket = current(epoch);
+        if (bucket == null) {
+            return;
+        }
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, bucket.counters.incrementAndGet(index(row, userId)));
+        }
+        if (estimate <= bucket.threshold || bucket.candidates.containsKey(userId)) {
+            return;
+        }
+        bucket.offer(userId, this);
+    }
+
+    /**
+     * 시간 창 안에서 호출이 가장 많은 사용자
+     * @return 추정 호출 수가 많은 순서의 최대 top-K 명
+     */
+    public HotKeyReport topK() {
+        long windowSeconds = bucketMillis * buckets.length() / 1000;
+        if (!enabled) {
+            return new HotKeyReport(windowSeconds, List.of());
+        }
+        long epoch = clockMillis.getAsLong() / bucketMillis;
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (live(bucket, epoch)) {
+                userIds.addAll(bucket.candidates.keySet());
+            }
+        }
+        List<HotKey> hotKeys = new ArrayList<>(userIds.size());
+        for (long userId : userIds) {
+            hotKeys.add(new HotKey(userId, estimate(userId, epoch)));
+        }
+        hotKeys.sort(Comparator.comparingLong(HotKey::count).reversed().thenComparingLong(HotKey::userId));
+        return new HotKeyReport(windowSeconds, List.copyOf(hotKeys.subList(0, Math.min(topK, hotKeys.size()))));
+    }
+
+    /**
+     * 최근 시간 창에서 top-K 후보에 오른 사용자인지 확인 (hot key 전용 처리로 보낼 때 사용)
+     * @param userId
+     * @return 후보 여부
+     */
+    public boolean isHot(long userId) {
+        long epoch = clockMillis.getAsLong() / bucketMillis;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (live(bucket, epoch) && bucket.candidates.containsKey(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 시간 창 안의 추정 호출 수
+     * @param userId
+     * @return 추정 호출 수
+     */
+    public long estimate(long userId) {
+        return enabled ? estimate(userId, clockMillis.getAsLong() / bucketMillis) : 0;
+    }
+
+    private long estimate(long userId, long epoch) {
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (live(bucket, epoch)) {
+                total += bucket.estimate(userId, this);
+            }
+        }
+        return total;
+    }
+
+    // 구간 자리를 시간 순서대로 돌려 쓰며, 지난 시간 창의 구간이면 새 구간으로 교체합니다.
+    // 교체에 진 스레드는 이긴 스레드가 넣은 구간을 사용하고, 자리에 더 최근 구간이 있으면 null 을 반환합니다.
+    private Bucket current(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket.epoch == epoch) {
+                return bucket;
+            }
+            if (bucket.epoch > epoch) {
+                return null;
+            }
+            Bucket next = new Bucket(epoch, depth * width);
+            if (buckets.compareAndSet(slot, bucket, next)) {
+                return next;
+            }
+        }
+    }
+
+    private boolean live(Bucket bucket, long epoch) {
+        return bucket.epoch > epoch - buckets.length() && bucket.epoch <= epoch;
+    }
+
+    private int index(int row, long userId) {
+        long z = userId + (row + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return row * width + (int) (z & (width - 1));
+    }
+
+    private static final class Bucket {
+        private final AtomicLongArray counters;
+        // 후보 변경은 bucket 락 안에서만 하고, 조회는 락 없이 합니다.
+        private final ConcurrentHashMap<Long, Boolean> candidates = new ConcurrentHashMap<>();
+        private final long epoch;
+        // 후보가 가득 찼을 때 후보 추정값의 최솟값 (추정값은 계속 커지므로 실제보다 작을 수 있습니다)
+        private volatile long threshold;
+
+        private Bucket(long epoch, int size) {
+            this.epoch = epoch;
+            this.counters = new AtomicLongArray(size);
+        }
+
+        private synchronized void offer(long userId, HotKeyTracker tracker) {
+            if (candidates.containsKey(userId)) {
+                return;
+            }
+            if (candidates.size() < tracker.topK) {
+                candidates.put(userId, Boolean.TRUE);
+                return;
+            }
+            long estimate = estimate(userId, tracker);
+            long minimum = Long.MAX_VALUE;
+            long minimumUserId = 0;
+            for (long candidate : candidates.keySet()) {
+                long candidateEstimate = estimate(candidate, tracker);
+                if (candidateEstimate < minimum) {
+                    minimum = candidateEstimate;
+                    minimumUserId = candidate;
+                }
+            }
+            if (estimate > minimum) {
+                candidates.remove(minimumUserId);
+                candidates.put(userId, Boolean.TRUE);
+            }
+            threshold = minimum;
+        }
+
+        private long estimate(long userId, HotKeyTracker tracker) {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < tracker.depth; row++) {
+                estimate = Math.min(estimate, counters.get(tracker.index(row, userId)));
+            }
+            return estimate;
+        }
+    }
+}
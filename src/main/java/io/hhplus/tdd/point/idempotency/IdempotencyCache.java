@@ -0,0 +1,225 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 요청의 Idempotency-Key 중복 제거 캐시
+ * - 같은 사용자, 같은 키의 요청은 처음 한 번만 실행하고, 이후 요청에는 처음 결과를 그대로 돌려줍니다.
+ *   PointService 를 거치지 않으므로 사용자 락과 테이블에 접근하지 않습니다.
+ * - 처음 요청이 아직 처리 중이면 같은 결과(CompletableFuture)를 기다립니다.
+ * - 잔액을 바꾸기 전에 거절된 요청(유효성 검사, 과부하 거절)은 저장하지 않아 같은 키로 다시 시도할 수 있습니다.
+ *   그 밖의 실패(기한 초과, 저장 오류 등)는 잔액이 이미 바뀌었을 수 있으므로 키를 유지하고, 같은 키의 재시도에는 같은 실패를 돌려줍니다.
+ * - 키는 ttl 이 지나면 만료됩니다. 최대 개수는 초당 요청 수 × ttl 이상으로 잡아, 보통은 ttl 동안 중복 실행이 없습니다.
+ * - 키가 최대 개수에 닿으면 처리가 끝난 가장 오래된 키부터 비우고 새 키를 실행합니다. (비운 키는 ttl 전이라도 다시 실행됩니다)
+ *   처리 중인 키는 비우지 않으며, 모든 키가 처리 중이면 새 키의 요청은 실행하지 않고 거절합니다. (PointOverloadedException, 429)
+ * - 키는 해시로 나눈 구간(stripe)마다 따로 잠그므로, 서로 다른 키의 요청이 하나의 락에 줄 서지 않습니다.
+ *   비울 키는 새 키의 구간부터 찾으므로 전체에서 가장 오래된 키가 아닐 수 있습니다.
+ */
+@Component
+public class IdempotencyCache {
+
+    private static final int STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    // 구간마다 넣은 순서를 유지하며, 만료 시간이 모두 같으므로 넣은 순서가 곧 만료 순서입니다.
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public IdempotencyCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, PointMetrics.simple());
+    }
+
+    @Autowired
+    public IdempotencyCache(@Value("${point.idempotency.max-size:1000000}") int maxSize,
+                            @Value("${point.idempotency.ttl-millis:600000}") long ttlMillis,
+                            PointMetrics pointMetrics) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        pointMetrics.functionCounter("point.idempotency.replayed", "Idempotency-Key 로 중복 처리를 생략한 횟수",
+                replays, LongAdder::sum);
+        pointMetrics.functionCounter("point.idempotency.evicted", "최대 개수에 닿아 만료 전에 비운 키 수",
+                evictions, LongAdder::sum);
+        pointMetrics.functionCounter("point.idempotency.rejected", "보관 중인 키가 모두 처리 중이라 거절한 횟수",
+                rejections, LongAdder::sum);
+        pointMetrics.gauge("point.idempotency.size", "보관 중인 Idempotency-Key 수", this, IdempotencyCache::size);
+    }
+
+    /**
+     * 키 기준으로 한 번만 실행
+     * @param key Idempotency-Key (없으면 매번 실행)
+     * @param userId
+     * @param type
+     * @param amount
+     * @param command 실제 충전/사용
+     * @return 처음 실행의 결과
+     * @throws PointOverloadedException 새 키인데 보관 중인 키가 최대 개수에 닿았고 모두 처리 중인 경우
+     */
+    public CompletableFuture<UserPoint> execute(String key, long userId, TransactionType type, long amount,
+                                                Supplier<CompletableFuture<UserPoint>> command) {
+        if (key == null) {
+            return command.get();
+        }
+        String scopedKey = userId + ":" + key;
+        int index = index(scopedKey);
+        Stripe stripe = stripes[index];
+        long now = System.nanoTime();
+        synchronized (stripe) {
+            expire(stripe, now);
+            Entry existing = stripe.entries.get(scopedKey);
+            if (existing != null) {
+                return replay(existing, key, type, amount);
+            }
+        }
+        // 다른 구간을 잠그므로 이 구간의 락을 놓은 뒤 자리를 만듭니다.
+        while (size.get() >= maxSize) {
+            if (!evictCompleted(index, now)) {
+                rejections.increment();
+                throw new PointOverloadedException("처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요.", 1);
+            }
+        }
+        Entry created;
+        synchronized (stripe) {
+            // 락을 놓은 사이 같은 키가 들어왔으면 그 결과를 따릅니다.
+            Entry existing = stripe.entries.get(scopedKey);
+            if (existing != null) {
+                return replay(existing, key, type, amount);
+            }
+            created = new Entry(type, amount, now + ttlNanos);
+            stripe.entries.put(scopedKey, created);
+            size.incrementAndGet();
+        }
+
+        CompletableFuture<UserPoint> result;
+        try {
+            result = command.get();
+        } catch (RuntimeException e) {
+            // 호출 스레드에서 바로 실패하면(LOCK 모드) 기존과 같이 그대로 던집니다.
+            if (rejectedBeforeChange(e)) {
+                remove(scopedKey, created);
+            }
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+        result.whenComplete((userPoint, error) -> {
+            if (error != null) {
+                if (rejectedBeforeChange(error)) {
+                    remove(scopedKey, created);
+                }
+                created.result.completeExceptionally(error);
+            } else {
+                created.result.complete(userPoint);
+            }
+        });
+        return created.result.copy();
+    }
+
+    /**
+     * 보관 중인 키 수
+     * @return 키 수
+     */
+    public int size() {
+        return size.get();
+    }
+
+    // 잔액을 바꾸기 전에 거절된 것이 확실한 실패만 다시 실행해도 안전합니다.
+    private static boolean rejectedBeforeChange(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IllegalArgumentException
+                || cause instanceof PointOverloadedException
+                || cause instanceof RejectedExecutionException;
+    }
+
+    private CompletableFuture<UserPoint> replay(Entry existing, String key, TransactionType type, long amount) {
+        if (existing.type != type || existing.amount != amount) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        replays.increment();
+        return existing.result.copy();
+    }
+
+    // 새 키의 구간부터 차례로 보며 만료된 키를 지우고, 그래도 자리가 없으면 처리가 끝난 가장 오래된 키 하나를 비웁니다.
+    private boolean evictCompleted(int start, long now) {
+        for (int i = 0; i < STRIPES; i++) {
+            Stripe stripe = stripes[(start + i) & (STRIPES - 1)];
+            synchronized (stripe) {
+                expire(stripe, now);
+                if (size.get() < maxSize) {
+                    return true;
+                }
+                Iterator<Entry> iterator = stripe.entries.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().result.isDone()) {
+                        iterator.remove();
+                        size.decrementAndGet();
+                        evictions.increment();
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void expire(Stripe stripe, long now) {
+        Iterator<Entry> iterator = stripe.entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt - now <= 0) {
+            iterator.remove();
+            size.decrementAndGet();
+        }
+    }
+
+    private void remove(String scopedKey, Entry entry) {
+        Stripe stripe = stripes[index(scopedKey)];
+        synchronized (stripe) {
+            if (stripe.entries.remove(scopedKey, entry)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private static int index(String scopedKey) {
+        int hash = scopedKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private static final class Stripe {
+        private final Map<String, Entry> entries = new LinkedHashMap<>();
+    }
+
+    private static final class Entry {
+        private final TransactionType type;
+        private final long amount;
+        private final long expiresAt;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Entry(TransactionType type, long amount, long expiresAt) {
+            this.type = type;
+            this.amount = amount;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
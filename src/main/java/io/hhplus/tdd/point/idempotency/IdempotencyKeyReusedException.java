@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.idempotency;
+
+/**
+ * 같은 Idempotency-Key 로 다른 요청(종류, 금액)을 보낸 경우
+ */
+public class IdempotencyKeyReusedException extends IllegalStateException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("이미 다른 요청에 사용된 Idempotency-Key 입니다. key = " + key);
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 단위 락 레지스트리
+ * - 서로 다른 사용자의 충전/사용은 병렬로 처리하고, 동일 사용자의 요청만 순서대로 처리합니다.
+ * - 락을 점유하거나 대기 중인 스레드가 없는 사용자의 락은 즉시 제거되어 메모리 사용량은 처리 중인 사용자 수에 비례합니다.
+ */
+@Component
+public class UserLockManager {
+
+    private final ConcurrentHashMap<Long, UserLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 특정 유저의 락 획득
+     * @param userId
+     */
+    public void lock(long userId) {
+        UserLock userLock = retain(userId);
+        userLock.lock.lock();
+    }
+
+    /**
+     * 특정 유저의 락을 제한 시간 동안만 기다려 획득
+     * - 획득하지 못하면 대기 표시를 거두므로 unlock 을 호출하지 않습니다.
+     * - 기다리는 중 인터럽트되면 인터럽트 상태를 남기고 획득 실패로 처리합니다.
+     * @param userId
+     * @param timeoutNanos
+     * @return 획득 여부
+     */
+    public boolean tryLock(long userId, long timeoutNanos) {
+        UserLock userLock = retain(userId);
+        boolean locked = false;
+        try {
+            locked = userLock.lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!locked) {
+                release(userId);
+            }
+        }
+        return locked;
+    }
+
+    /**
+     * 특정 유저의 락 해제
+     * @param userId
+     */
+    public void unlock(long userId) {
+        UserLock userLock = locks.get(userId);
+        if (userLock == null || !userLock.lock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException("락을 보유하지 않은 사용자입니다. userId = " + userId);
+        }
+        userLock.lock.unlock();
+        release(userId);
+    }
+
+    /**
+     * 현재 레지스트리에 남아 있는 사용자 락 수
+     * @return 락 수
+     */
+    public int size() {
+        return locks.size();
+    }
+
+    // 참조 수를 올린 뒤 락을 돌려주므로, 대기 중인 락이 다른 스레드에 의해 제거되지 않습니다.
+    private UserLock retain(long userId) {
+        return locks.compute(userId, (id, userLock) -> {
+            UserLock retained = userLock == null ? new UserLock() : userLock;
+            retained.references++;
+            return retained;
+        });
+    }
+
+    private void release(long userId) {
+        locks.computeIfPresent(userId, (id, userLock) -> --userLock.references == 0 ? null : userLock);
+    }
+
+    private static final class UserLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        // compute 블록 안에서만 변경됩니다.
+        private int references;
+    }
+}
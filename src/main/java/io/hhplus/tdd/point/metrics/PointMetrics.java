@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.deadline.DeadlineStage;
+import io.hhplus.tdd.point.validator.PointRejectReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 포인트 처리 지표
+ * - point.lock.wait : 사용자 락 획득 대기 시간
+ * - point.table.latency : 테이블 호출 시간 (table, operation 태그)
+ * - point.table.lock.wait : 스레드 안전하지 않은 테이블을 호출하기 전 테이블 락 대기 시간 (table, operation 태그)
+ * - point.validation.rejected : 유효성 검사 거절 횟수 (reason 태그)
+ * - point.deadline.exceeded : 기한이 지나 잔액을 변경하지 않고 포기한 횟수 (stage 태그)
+ * - point.deadline.completed-late : 기한이 지난 뒤에 끝나 응답을 받을 클라이언트가 없었을 처리 수
+ * - 시간 지표는 p50/p99/p999 를 함께 기록합니다.
+ */
+@Component
+public class PointMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+
+    private final Timer lockWait;
+    private final Timer userPointSelect;
+    private final Timer userPointInsertOrUpdate;
+    private final Timer userPointSelectLockWait;
+    private final Timer userPointInsertOrUpdateLockWait;
+    private final Timer pointHistoryInsert;
+    private final Timer pointHistorySelect;
+    private final Map<PointRejectReason, Counter> rejections = new EnumMap<>(PointRejectReason.class);
+    private final Map<DeadlineStage, Counter> deadlineExceeded = new EnumMap<>(DeadlineStage.class);
+    private final Counter completedLate;
+
+    public PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.lockWait = timer("point.lock.wait", "사용자 락 획득 대기 시간").register(registry);
+        this.userPointSelect = tableTimer("user_point", "selectById");
+        this.userPointInsertOrUpdate = tableTimer("user_point", "insertOrUpdate");
+        this.userPointSelectLockWait = tableLockTimer("user_point", "selectById");
+        this.userPointInsertOrUpdateLockWait = tableLockTimer("user_point", "insertOrUpdate");
+        this.pointHistoryInsert = tableTimer("point_history", "insert");
+        this.pointHistorySelect = tableTimer("point_history", "selectAllByUserId");
+        for (PointRejectReason reason : PointRejectReason.values()) {
+            rejections.put(reason, Counter.builder("point.validation.rejected")
+                    .description("유효성 검사 거절 횟수")
+                    .tag("reason", reason.name())
+                    .register(registry));
+        }
+        for (DeadlineStage stage : DeadlineStage.values()) {
+            deadlineExceeded.put(stage, Counter.builder("point.deadline.exceeded")
+                    .description("기한이 지나 포기한 충전/사용 횟수")
+                    .tag("stage", stage.name())
+                    .register(registry));
+        }
+        this.completedLate = Counter.builder("point.deadline.completed-late")
+                .description("기한이 지난 뒤에 끝난 충전/사용 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 스프링 컨텍스트 밖(단위 테스트, 벤치마크)에서 사용하는 지표
+     * @return 메모리에만 기록하는 PointMetrics
+     */
+    public static PointMetrics simple() {
+        return new PointMetrics(new SimpleMeterRegistry());
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> T recordUserPointSelect(Supplier<T> call) {
+        return userPointSelect.record(call);
+    }
+
+    public <T> T recordUserPointInsertOrUpdate(Supplier<T> call) {
+        return userPointInsertOrUpdate.record(call);
+    }
+
+    public void recordUserPointSelectLockWait(long nanos) {
+        userPointSelectLockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserPointInsertOrUpdateLockWait(long nanos) {
+        userPointInsertOrUpdateLockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> T recordPointHistoryInsert(Supplier<T> call) {
+        return pointHistoryInsert.record(call);
+    }
+
+    public <T> T recordPointHistorySelect(Supplier<T> call) {
+        return pointHistorySelect.record(call);
+    }
+
+    public void rejected(PointRejectReason reason) {
+        rejections.get(reason).increment();
+    }
+
+    public void deadlineExceeded(DeadlineStage stage) {
+        deadlineExceeded.get(stage).increment();
+    }
+
+    public void completedLate() {
+        completedLate.increment();
+    }
+
+    /**
+     * 값이 계속 바뀌는 상태(큐 길이, 캐시 크기 등) 등록
+     */
+    public <T> void gauge(String name, String description, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).description(description).register(registry);
+    }
+
+    /**
+     * 태그로 구분되는 상태(파티션별 큐 길이 등) 등록
+     */
+    public <T> void gauge(String name, String description, String tagKey, String tagValue, T target,
+                          ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).description(description).tag(tagKey, tagValue).register(registry);
+    }
+
+    /**
+     * 누적 횟수를 외부에서 관리하는 카운터(캐시 적중 수 등) 등록
+     */
+    public <T> void functionCounter(String name, String description, T target, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, target, count).description(description).register(registry);
+    }
+
+    /**
+     * 태그로 구분되는 누적 횟수(파티션별 처리 수 등) 등록
+     */
+    public <T> void functionCounter(String name, String description, String tagKey, String tagValue, T target,
+                                    ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, target, count).description(description).tag(tagKey, tagValue).register(registry);
+    }
+
+    private Timer tableTimer(String table, String operation) {
+        return timer("point.table.latency", "테이블 호출 시간")
+                .tag("table", table)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private Timer tableLockTimer(String table, String operation) {
+        return timer("point.table.lock.wait", "테이블 락 대기 시간")
+                .tag("table", table)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram();
+    }
+}
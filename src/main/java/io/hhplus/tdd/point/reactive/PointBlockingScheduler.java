@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.reactive;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * 리액티브 API 에서 블로킹 호출(테이블 throttle, 사용자 락 대기)을 실행하는 전용 스케줄러
+ * - 이벤트 루프 스레드를 막지 않도록 모든 PointService 호출을 이 스케줄러에서 구독합니다.
+ * - 스레드 수와 대기 작업 수에 상한이 있어, 한도를 넘는 요청은 스레드를 늘리지 않고 거절됩니다. (RejectedExecutionException, 429 응답)
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PointBlockingScheduler {
+
+    private final Scheduler scheduler;
+
+    public PointBlockingScheduler(@Value("${point.reactive.scheduler.threads:64}") int threads,
+                                  @Value("${point.reactive.scheduler.queued-tasks:100000}") int queuedTasks) {
+        this.scheduler = Schedulers.newBoundedElastic(threads, queuedTasks, "point-blocking");
+    }
+
+    /**
+     * 블로킹 호출 하나를 Mono 로 감싸기
+     * @param call
+     * @return 구독 시 스케줄러에서 실행되는 Mono
+     */
+    public <T> Mono<T> mono(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(scheduler);
+    }
+
+    /**
+     * CompletableFuture 를 돌려주는 호출을 Mono 로 감싸기
+     * - 호출 자체가 블로킹일 수 있으므로(LOCK 모드) 호출도 스케줄러에서 수행합니다.
+     * @param call
+     * @return 구독 시 스케줄러에서 실행되는 Mono
+     */
+    public <T> Mono<T> future(Supplier<CompletableFuture<T>> call) {
+        return Mono.fromFuture(call).subscribeOn(scheduler);
+    }
+
+    /**
+     * 커서로 나누어 읽는 블로킹 조회를 Flux 로 감싸기
+     * - 구독자가 요청할 때만 다음 페이지를 읽으므로, 느린 구독자를 앞질러 읽어 쌓아 두지 않습니다. (읽어 둔 페이지는 최대 두 개)
+     * - 구독이 취소되면 다음 페이지를 읽지 않습니다.
+     * @param page 커서(처음이면 0) 다음부터 한 페이지를 읽는 조회
+     * @return 구독 시 스케줄러에서 조회하는 Flux
+     */
+    public <T> Flux<T> paged(LongFunction<Page<T>> page) {
+        return Flux.<List<T>, Page<T>>generate(() -> new Page<>(List.of(), 0L), (previous, sink) -> {
+            if (previous.nextCursor() == null) {
+                sink.complete();
+                return previous;
+            }
+            Page<T> next = page.apply(previous.nextCursor());
+            sink.next(next.items());
+            return next;
+        }).flatMapIterable(Function.identity(), 1).subscribeOn(scheduler);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+
+    /**
+     * 조회 한 페이지
+     * - nextCursor : 다음 페이지를 읽을 커서 (마지막 페이지면 null)
+     */
+    public record Page<T>(List<T> items, Long nextCursor) {
+    }
+}
@@ -0,0 +1,116 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.admission.AdmissionControl;
+import io.hhplus.tdd.point.deadline.Deadline;
+import io.hhplus.tdd.point.hotkey.HotKeyTracker;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * /point API 의 리액티브 버전 (spring.main.web-application-type: reactive 일 때만 등록)
+ * - 조회, 내역, 충전, 사용 네 API 를 PointController 와 같은 경로와 응답으로 제공합니다.
+ * - PointService 호출은 PointBlockingScheduler 에서 실행하고, 결과는 Mono/Flux 로 돌려줍니다.
+ * - 내역은 Flux<PointHistory> 로 한 건씩 내보내며, Accept 가 application/x-ndjson 이면 한 줄에 한 건씩 스트리밍됩니다.
+ *   내역은 구독자가 요청할 때마다 HISTORY_PAGE_SIZE 건씩 커서로 읽습니다.
+ */
+@RestController
+@RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointController {
+
+    private static final int HISTORY_PAGE_SIZE = 100;
+
+    private final PointService pointService;
+    private final IdempotencyCache idempotencyCache;
+    private final AdmissionControl admissionControl;
+    private final PointBlockingScheduler pointBlockingScheduler;
+    private final HotKeyTracker hotKeyTracker;
+    private final long defaultTimeoutMillis;
+
+    public ReactivePointController(PointService pointService, IdempotencyCache idempotencyCache,
+                                   AdmissionControl admissionControl, PointBlockingScheduler pointBlockingScheduler,
+                                   HotKeyTracker hotKeyTracker,
+                                   @Value("${point.deadline.default-timeout-millis:3000}") long defaultTimeoutMillis) {
+        this.pointService = pointService;
+        this.idempotencyCache = idempotencyCache;
+        this.admissionControl = admissionControl;
+        this.pointBlockingScheduler = pointBlockingScheduler;
+        this.hotKeyTracker = hotKeyTracker;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+    }
+
+    /**
+     * 특정 유저의 포인트 조회
+     */
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(@PathVariable("id") long id) {
+        hotKeyTracker.record(id);
+        return pointBlockingScheduler.mono(() -> pointService.selectPoint(id));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 조회
+     */
+    @GetMapping("{id}/histories")
+    public Flux<PointHistory> history(@PathVariable("id") long id) {
+        return pointBlockingScheduler.paged(after -> {
+            PointHistoryPage page = pointService.selectPointHistoryPage(id, after, HISTORY_PAGE_SIZE);
+            if (page.nextCursor() != null) {
+                return new PointBlockingScheduler.Page<>(page.histories(), page.nextCursor());
+            }
+            // 커서 조회에는 기록 대기 중인 내역이 없으므로, 마지막 페이지는 대기 중인 내역까지 함께 읽습니다.
+            List<PointHistory> rest = new ArrayList<>();
+            pointService.streamPointHistory(id, after, rest::add);
+            return new PointBlockingScheduler.Page<>(rest, null);
+        });
+    }
+
+    /**
+     * 특정 유저의 포인트 충전 (Idempotency-Key, 요청 수 제한, 처리 기한은 PointController 와 같습니다.)
+     */
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+            @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "Request-Timeout-Millis", required = false) Long timeoutMillis,
+            @RequestBody long amount
+    ) {
+        hotKeyTracker.record(id);
+        Deadline deadline = deadline(timeoutMillis);
+        return pointBlockingScheduler.future(() -> idempotencyCache.execute(idempotencyKey, id, TransactionType.CHARGE,
+                amount, () -> admissionControl.execute(id, () -> pointService.chargeAsync(id, amount, deadline))));
+    }
+
+    /**
+     * 특정 유저의 포인트 사용 (Idempotency-Key, 요청 수 제한, 처리 기한은 PointController 와 같습니다.)
+     */
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+            @PathVariable("id") long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "Request-Timeout-Millis", required = false) Long timeoutMillis,
+            @RequestBody long amount
+    ) {
+        hotKeyTracker.record(id);
+        Deadline deadline = deadline(timeoutMillis);
+        return pointBlockingScheduler.future(() -> idempotencyCache.execute(idempotencyKey, id, TransactionType.USE,
+                amount, () -> admissionControl.execute(id, () -> pointService.useAsync(id, amount, deadline))));
+    }
+
+    // 요청을 받은 시점부터 기한을 잽니다.
+    private Deadline deadline(Long timeoutMillis) {
+        return Deadline.afterMillis(timeoutMillis != null ? timeoutMillis : defaultTimeoutMillis);
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 특정 시점의 전체 포인트 잔액
+ * - sequence : 이 스냅샷에 반영된 마지막 write-ahead log 순번 (이후 기록만 재생하면 됩니다)
+ */
+public record PointSnapshot(
+        long sequence,
+        List<UserPoint> userPoints
+) {
+
+    public static PointSnapshot empty() {
+        return new PointSnapshot(0, List.of());
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 포인트 잔액 스냅샷 파일 저장소
+ * - 파일명은 snapshot-{sequence}.bin 이며, 임시 파일에 쓴 뒤 이름을 바꿔 온전한 파일만 보이게 합니다.
+ *   [magic 4][version 4][sequence 8][count 4]{[userId 8][point 8][updateMillis 8]} * count [crc32 4]
+ * - 최신 파일이 손상되었으면 그 이전 파일을 사용합니다.
+ */
+@Component
+public class PointSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotStore.class);
+
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final int VERSION = 1;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+    private final int retain;
+
+    @Autowired
+    public PointSnapshotStore(@Value("${point.snapshot.path:data/snapshots}") String directory,
+                              @Value("${point.snapshot.retain:2}") int retain) {
+        this.directory = Path.of(directory);
+        this.retain = Math.max(1, retain);
+    }
+
+    /**
+     * 스냅샷 저장
+     * - 디스크 반영(fsync) 후 반환하며, 보관 개수를 넘는 오래된 스냅샷은 삭제합니다.
+     * @param snapshot
+     * @return 저장한 파일 경로
+     */
+    public Path save(PointSnapshot snapshot) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(PREFIX + String.format("%020d", snapshot.sequence()) + SUFFIX);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(snapshot.sequence());
+            out.writeInt(snapshot.userPoints().size());
+            for (UserPoint userPoint : snapshot.userPoints()) {
+                out.writeLong(userPoint.id());
+                out.writeLong(userPoint.point());
+                out.writeLong(userPoint.updateMillis());
+            }
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        List<Path> files = list();
+        for (int i = retain; i < files.size(); i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+        return target;
+    }
+
+    /**
+     * 가장 최근의 온전한 스냅샷 조회
+     * @return 스냅샷이 없으면 PointSnapshot.empty()
+     */
+    public PointSnapshot loadLatest() throws IOException {
+        for (Path file : list()) {
+            try {
+                return read(file);
+            } catch (IOException | IllegalStateException e) {
+                log.warn("손상된 스냅샷을 건너뜁니다. file = {}, cause = {}", file, e.getMessage());
+            }
+        }
+        return PointSnapshot.empty();
+    }
+
+    // 최신 순으로 정렬한 스냅샷 파일 목록
+    private List<Path> list() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        }
+    }
+
+    private PointSnapshot read(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(stream), crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("스냅샷 형식이 올바르지 않습니다.");
+            }
+            long sequence = in.readLong();
+            int count = in.readInt();
+            List<UserPoint> userPoints = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                userPoints.add(new UserPoint(in.readLong(), in.readLong(), in.readLong()));
+            }
+            int actual = (int) crc.getValue();
+            if (in.readInt() != actual) {
+                throw new IllegalStateException("스냅샷 체크섬이 일치하지 않습니다.");
+            }
+            return new PointSnapshot(sequence, userPoints);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 포인트 잔액 스냅샷을 만들고 write-ahead log 를 정리
+ * - 잔액은 테이블이 아닌 write-ahead log 의 이미 기록된 구간을 접어서 만들므로, 충전/사용 요청을 멈추지 않고도 한 시점의 일관된 값을 얻습니다.
+ * - 스냅샷을 디스크에 반영한 뒤에만 그 순번까지의 로그를 정리합니다.
+ * - 잔액 이미지는 스냅샷 스레드만 다루며, 사용자 수만큼의 메모리를 사용합니다.
+ */
+@Component
+public class PointSnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointSnapshotStore pointSnapshotStore;
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final long minRecords;
+
+    private final Map<Long, UserPoint> balances = new HashMap<>();
+    private long sequence;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public PointSnapshotter(PointWriteAheadLog pointWriteAheadLog, PointSnapshotStore pointSnapshotStore,
+                            @Value("${point.snapshot.enabled:false}") boolean enabled,
+                            @Value("${point.snapshot.interval-millis:60000}") long intervalMillis,
+                            @Value("${point.snapshot.min-records:10000}") long minRecords) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.pointSnapshotStore = pointSnapshotStore;
+        this.enabled = enabled && pointWriteAheadLog.enabled();
+        this.intervalMillis = intervalMillis;
+        this.minRecords = minRecords;
+    }
+
+    /**
+     * 복구된 잔액에서 시작하여 주기적인 스냅샷 시작
+     * @param sequence 복구에 반영된 마지막 순번
+     * @param recovered 복구된 사용자별 잔액
+     */
+    public synchronized void start(long sequence, Map<Long, UserPoint> recovered) {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        this.sequence = sequence;
+        this.balances.putAll(recovered);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::snapshotIfNeeded, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 지금까지 기록된 변경을 반영한 스냅샷 저장 후 로그 정리
+     * @return 저장한 스냅샷
+     */
+    public synchronized PointSnapshot snapshot() throws IOException {
+        long start = System.nanoTime();
+        long records = pointWriteAheadLog.replay(sequence, record -> {
+            balances.put(record.userId(), record.applyTo(balances.get(record.userId())));
+            sequence = record.sequence();
+        });
+        PointSnapshot snapshot = new PointSnapshot(sequence, List.copyOf(balances.values()));
+        pointSnapshotStore.save(snapshot);
+        pointWriteAheadLog.compact(sequence);
+
+        log.info("포인트 스냅샷을 저장했습니다. sequence = {}, users = {}, records = {}, elapsed = {}ms",
+                sequence, balances.size(), records, (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+
+    /**
+     * 종료 시 마지막 스냅샷을 남겨 다음 기동 시 재생할 기록을 줄임
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = scheduler;
+            scheduler = null;
+        }
+        if (current == null) {
+            return;
+        }
+        // 진행 중인 스냅샷이 이 객체의 락을 기다릴 수 있으므로 락 밖에서 종료를 기다립니다.
+        current.shutdown();
+        current.awaitTermination(10, TimeUnit.SECONDS);
+        if (pointWriteAheadLog.lastSequence() > sequence()) {
+            try {
+                snapshot();
+            } catch (IOException e) {
+                log.error("종료 시 포인트 스냅샷을 저장하지 못했습니다.", e);
+            }
+        }
+    }
+
+    private void snapshotIfNeeded() {
+        try {
+            if (pointWriteAheadLog.lastSequence() - sequence() >= minRecords) {
+                snapshot();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("포인트 스냅샷을 저장하지 못했습니다.", e);
+        }
+    }
+
+    private synchronized long sequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.validator;
+
+/**
+ * 포인트 요청 거절 사유
+ */
+public enum PointRejectReason {
+    INVALID_CHARGE_AMOUNT,
+    INVALID_USE_AMOUNT,
+    INSUFFICIENT_POINT,
+    MAX_BALANCE_EXCEEDED,
+    USER_POINT_NOT_FOUND,
+    INVALID_PAGE_SIZE,
+    INVALID_TRANSACTION_TYPE,
+    INVALID_TIME_RANGE,
+    INVALID_BATCH_SIZE
+}
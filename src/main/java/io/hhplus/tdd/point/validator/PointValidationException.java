@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.validator;
+
+/**
+ * 포인트 유효성 검사 실패
+ * - 기존 처리와 호환되도록 IllegalArgumentException 을 상속하며, 거절 사유를 함께 전달합니다.
+ *   (충전/사용이 잘못된 금액에 IllegalArgumentException 을 던지는 것이 기존 API 의 계약이며, 호출하는 쪽과 테스트가 이 타입으로 처리합니다.)
+ * - 비즈니스 거절은 오류가 아니므로 스택 트레이스를 채우지 않습니다.
+ *   PointValidator 는 사유별로 미리 만든 인스턴스를 던지므로 거절마다 객체를 만들지 않습니다.
+ * - IllegalArgumentException 에는 suppression 을 끄는 생성자가 없으므로, 공유 인스턴스인 이 예외에는 addSuppressed 를 호출하지 않습니다.
+ *   (호출하면 여러 요청의 예외가 한 인스턴스에 계속 쌓입니다. 이 예외를 잡아 다른 예외를 덧붙여야 하면 새 예외로 감쌉니다.)
+ */
+public class PointValidationException extends IllegalArgumentException {
+
+    private final PointRejectReason reason;
+
+    public PointValidationException(PointRejectReason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public PointRejectReason reason() {
+        return reason;
+    }
+
+    // 여러 스레드가 같은 인스턴스를 던지므로 호출 위치를 기록하지 않습니다.
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,22 +1,60 @@
 package io.hhplus.tdd.point.validator;
 
+import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PointValidator {
 
     private static final long MAX_BALANCE = 10000L;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
 
+    // 거절마다 예외를 새로 만들지 않도록 사유별로 하나씩 미리 만들어 둡니다.
+    private static final PointValidationException INVALID_CHARGE_AMOUNT =
+            new PointValidationException(PointRejectReason.INVALID_CHARGE_AMOUNT, "충전 금액은 0보다 커야 합니다.");
+    private static final PointValidationException INVALID_USE_AMOUNT =
+            new PointValidationException(PointRejectReason.INVALID_USE_AMOUNT, "사용 금액은 0보다 커야 합니다.");
+    private static final PointValidationException INSUFFICIENT_POINT =
+            new PointValidationException(PointRejectReason.INSUFFICIENT_POINT, "포인트가 부족합니다.");
+    private static final PointValidationException USER_POINT_NOT_FOUND =
+            new PointValidationException(PointRejectReason.USER_POINT_NOT_FOUND, "사용자 포인트 정보가 없습니다.");
+    private static final PointValidationException MAX_BALANCE_EXCEEDED =
+            new PointValidationException(PointRejectReason.MAX_BALANCE_EXCEEDED, "포인트 최대 한도를 초과하였습니다.");
+    private static final PointValidationException INVALID_PAGE_SIZE =
+            new PointValidationException(PointRejectReason.INVALID_PAGE_SIZE,
+                    "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+    private static final PointValidationException INVALID_TIME_RANGE =
+            new PointValidationException(PointRejectReason.INVALID_TIME_RANGE,
+                    "조회 시작 시각은 0 이상이고 끝 시각보다 늦을 수 없습니다.");
+    private static final PointValidationException INVALID_TRANSACTION_TYPE =
+            new PointValidationException(PointRejectReason.INVALID_TRANSACTION_TYPE, "거래 종류가 없습니다.");
+
+    private final int maxBatchSize;
+    // 한도가 설정값이므로 인스턴스마다 하나 만들어 둡니다.
+    private final PointValidationException invalidBatchSize;
+
+    public PointValidator() {
+        this(DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    @Autowired
+    public PointValidator(@Value("${point.batch.max-size:100}") int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        this.invalidBatchSize = new PointValidationException(PointRejectReason.INVALID_BATCH_SIZE,
+                "일괄 처리 요청은 " + maxBatchSize + " 건 이하여야 합니다.");
+    }
 
     /**
      * 충전 금액 유효성 검사
      * @param amount
      */
     public void validateCharge(long amount) {
-        System.out.println("validateCharge called with amount = " + amount);
         if (amount <= 0) {
-            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+            throw INVALID_CHARGE_AMOUNT;
         }
     }
 
@@ -27,10 +65,10 @@ public class PointValidator {
      */
     public void validateUse(UserPoint userPoint, long amount) {
         if (amount <= 0) {
-            throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+            throw INVALID_USE_AMOUNT;
         }
         if (userPoint.point() < amount) {
-            throw new IllegalArgumentException("포인트가 부족합니다.");
+            throw INSUFFICIENT_POINT;
         }
     }
 
@@ -40,7 +78,7 @@ public class PointValidator {
      */
     public void validateUserPoint(UserPoint userPoint) {
         if (userPoint == null) {
-            throw new IllegalArgumentException("사용자 포인트 정보가 없습니다.");
+            throw USER_POINT_NOT_FOUND;
         }
     }
 
@@ -51,7 +89,48 @@ public class PointValidator {
      */
     public void validateMaxBalance(long currentBalance, long amount) {
         if (currentBalance + amount > MAX_BALANCE) {
-            throw new IllegalArgumentException("포인트 최대 한도를 초과하였습니다.");
+            throw MAX_BALANCE_EXCEEDED;
+        }
+    }
+
+    /**
+     * 내역 페이지 크기 유효성 검사
+     * @param limit
+     */
+    public void validatePageSize(int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw INVALID_PAGE_SIZE;
+        }
+    }
+
+    /**
+     * 조회 시간 구간 유효성 검사
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis 끝 시각 (제외)
+     */
+    public void validateTimeRange(long fromMillis, long toMillis) {
+        if (fromMillis < 0 || fromMillis > toMillis) {
+            throw INVALID_TIME_RANGE;
+        }
+    }
+
+    /**
+     * 일괄 처리 요청 수 유효성 검사
+     * @param size
+     */
+    public void validateBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw invalidBatchSize;
+        }
+    }
+
+    /**
+     * 거래 종류 유효성 검사
+     * @param type
+     */
+    public void validateTransactionType(TransactionType type) {
+        if (type == null) {
+            throw INVALID_TRANSACTION_TYPE;
         }
     }
 }
@@ -0,0 +1,128 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.snapshot.PointSnapshot;
+import io.hhplus.tdd.point.snapshot.PointSnapshotStore;
+import io.hhplus.tdd.point.snapshot.PointSnapshotter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기동 시 최신 스냅샷과 write-ahead log 를 재생하여 포인트 잔액과 내역을 복구
+ * - 잔액은 스냅샷에 이후 기록만 반영한 뒤 사용자별로 한 번만 저장합니다.
+ * - 기동 시에는 스냅샷 이후의 기록과 아직 정리되지 않은 로그만 재생하므로, 기동 시간은 전체 내역이 아닌 스냅샷 이후 기록 수에 비례합니다.
+ * - 내역은 메모리에만 있으므로, 그보다 앞선 내역은 기동 뒤 백그라운드 스레드가 보관 파일에서 읽어 다시 기록합니다.
+ *   다 기록되기 전에는 조회 결과에 빠져 있을 수 있으며, 기동 후 기록된 내역보다 큰 id 를 받습니다.
+ *   보관 파일이 지워진 구간의 내역은 복구하지 못하며 경고를 남깁니다.
+ * - 최신 스냅샷이 손상되어 이전 스냅샷을 쓰는 경우에도, 그 사이 구간은 기동 시 보관 파일에서 읽어 잔액에 반영합니다.
+ * - 애플리케이션이 요청을 받기 전(빈 초기화 시점)에 수행됩니다.
+ */
+@Component
+public class PointWalRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWalRecovery.class);
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointSnapshotStore pointSnapshotStore;
+    private final PointSnapshotter pointSnapshotter;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private volatile Thread historyRecovery;
+
+    public PointWalRecovery(PointWriteAheadLog pointWriteAheadLog, PointSnapshotStore pointSnapshotStore,
+                            PointSnapshotter pointSnapshotter, UserPointRepository userPointRepository,
+                            PointHistoryRepository pointHistoryRepository) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.pointSnapshotStore = pointSnapshotStore;
+        this.pointSnapshotter = pointSnapshotter;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    /**
+     * 스냅샷 이후의 잔액 변경과 정리되지 않은 로그의 내역을 재생하고, 보관 파일의 내역 복구를 백그라운드로 시작
+     * @return 기동 시 재생한 레코드 수
+     */
+    @PostConstruct
+    public long recover() {
+        if (!pointWriteAheadLog.enabled()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        PointSnapshot snapshot = loadSnapshot();
+        long firstSequence = pointWriteAheadLog.firstSequence();
+        if (snapshot.sequence() < firstSequence) {
+            throw new IllegalStateException("스냅샷 이후의 포인트 변경 일부가 이미 정리되어 복구할 수 없습니다. snapshot = "
+                    + snapshot.sequence() + ", firstSequence = " + firstSequence);
+        }
+        if (firstSequence > 0) {
+            log.warn("보관 파일이 없어 {} 번까지의 포인트 내역은 복구하지 못했습니다.", firstSequence);
+        }
+
+        // 스냅샷 이전이라도 정리되지 않은 로그에 남은 기록은 보관 파일에 없으므로 함께 재생합니다.
+        long replayFrom = Math.min(snapshot.sequence(), pointWriteAheadLog.baseSequence());
+        Map<Long, UserPoint> balances = new HashMap<>();
+        snapshot.userPoints().forEach(userPoint -> balances.put(userPoint.id(), userPoint));
+        long records = pointWriteAheadLog.replay(replayFrom, record -> {
+            if (record.sequence() > snapshot.sequence()) {
+                balances.put(record.userId(), record.applyTo(balances.get(record.userId())));
+            }
+            pointHistoryRepository.record(record.userId(), record.amount(), record.type(), record.updateMillis());
+        });
+        balances.values().forEach(userPoint -> userPointRepository.save(userPoint.id(), userPoint.point()));
+        pointSnapshotter.start(pointWriteAheadLog.lastSequence(), balances);
+        if (firstSequence < replayFrom) {
+            startHistoryRecovery(firstSequence, replayFrom);
+        }
+
+        log.info("포인트 잔액을 복구했습니다. snapshot = {} ({} users), replayed = {}, elapsed = {}ms",
+                snapshot.sequence(), snapshot.userPoints().size(), records, (System.nanoTime() - start) / 1_000_000);
+        return records;
+    }
+
+    /**
+     * 보관 파일의 내역 복구가 끝날 때까지 대기 (복구할 내역이 없으면 바로 반환)
+     * @throws InterruptedException
+     */
+    public void awaitHistoryRecovery() throws InterruptedException {
+        Thread current = historyRecovery;
+        if (current != null) {
+            current.join();
+        }
+    }
+
+    // 보관 파일만 읽으므로 스냅샷 스레드의 로그 정리와 함께 수행해도 됩니다.
+    private void startHistoryRecovery(long fromSequence, long toSequence) {
+        Thread thread = new Thread(() -> {
+            long start = System.nanoTime();
+            try {
+                long records = pointWriteAheadLog.replay(fromSequence, toSequence, record -> pointHistoryRepository.record(
+                        record.userId(), record.amount(), record.type(), record.updateMillis()));
+                log.info("보관 파일의 포인트 내역을 복구했습니다. records = {}, elapsed = {}ms",
+                        records, (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                log.error("보관 파일의 포인트 내역을 복구하지 못했습니다. from = {}, to = {}", fromSequence, toSequence, e);
+            }
+        }, "point-history-recovery");
+        thread.setDaemon(true);
+        historyRecovery = thread;
+        thread.start();
+    }
+
+    private PointSnapshot loadSnapshot() {
+        try {
+            return pointSnapshotStore.loadLatest();
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 스냅샷을 읽을 수 없습니다.", e);
+        }
+    }
+}
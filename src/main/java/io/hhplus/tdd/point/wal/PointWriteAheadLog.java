@@ -0,0 +1,634 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 포인트 변경 write-ahead log
+ * - 충전/사용을 응답하기 전에 고정 길이(32 byte) 레코드로 메모리 매핑 파일에 기록합니다.
+ *   [userId 8][amount 8][updateMillis 8][type 1][padding 3][crc32 4]
+ * - 파일 맨 앞 32 byte 는 헤더로, 이 파일의 첫 레코드 직전 순번(baseSequence)을 담습니다.
+ *   [magic 4][version 4][baseSequence 8][padding 12][crc32 4]
+ * - 잔액 저장에 성공한 변경만 기록하며, 한 번에 기록하는 여러 건은 모두 기록하거나 하나도 기록하지 않습니다.
+ *   (저장 전에 기록하면 저장이 실패한 변경이 로그에 남아 복구와 스냅샷에 반영됩니다)
+ * - fsync 는 요청마다 하지 않고, 백그라운드 스레드가 일정 간격으로 모인 기록을 한 번에 디스크에 내립니다. (group commit)
+ * - 파일을 만들거나 교체한 뒤에는 디렉터리도 디스크에 반영하여, 장애 후에도 파일 이름이 남아 있게 합니다.
+ * - 기동 시 마지막으로 온전한 레코드까지만 인정하고, 그 뒤(쓰다 만 레코드)는 잘라냅니다.
+ * - 스냅샷에 반영된 앞부분은 compact 로 별도 파일(path.{from}-{to})에 보관하고 로그에서 제거합니다.
+ *   보관 파일도 같은 형식이므로, replay 는 로그에서 제거된 구간을 보관 파일에서 이어 읽습니다.
+ */
+@Component
+public class PointWriteAheadLog {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteAheadLog.class);
+
+    static final int RECORD_SIZE = 32;
+    static final int HEADER_SIZE = 32;
+    private static final int MAGIC = 0x5057414C; // "PWAL"
+    private static final int VERSION = 1;
+    private static final int TYPE_OFFSET = 24;
+    private static final int CHECKSUM_OFFSET = 28;
+    private static final byte CHARGE = 1;
+    private static final byte USE = 2;
+    private static final int READ_BATCH = 1024;
+
+    private final boolean enabled;
+    private final Path path;
+    private final long groupCommitNanos;
+    private final int mapSize;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock durableLock = new ReentrantLock();
+    private final Condition durableChanged = durableLock.newCondition();
+
+    private FileChannel channel;
+    // 아래 값은 appendLock 안에서만 변경됩니다.
+    private MappedByteBuffer buffer;
+    private long mappedFrom;
+    private long baseSequence;
+    private long writtenSequence;
+    private volatile long durableSequence;
+
+    private Thread flusher;
+    private volatile boolean running;
+
+    /**
+     * 기록하지 않는 write-ahead log (단위 테스트, 설정으로 끈 경우)
+     * @return 비활성화된 PointWriteAheadLog
+     */
+    public static PointWriteAheadLog disabled() {
+        return new PointWriteAheadLog(false, null, 0, RECORD_SIZE);
+    }
+
+    @Autowired
+    public PointWriteAheadLog(@Value("${point.wal.enabled:false}") boolean enabled,
+                              @Value("${point.wal.path:data/point.wal}") String path,
+                              @Value("${point.wal.group-commit-interval-millis:5}") long groupCommitIntervalMillis,
+                              @Value("${point.wal.map-size:67108864}") int mapSize) {
+        this.enabled = enabled;
+        this.path = path == null ? null : Path.of(path);
+        this.groupCommitNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitIntervalMillis);
+        this.mapSize = Math.max(RECORD_SIZE, mapSize - mapSize % RECORD_SIZE);
+        if (enabled) {
+            open();
+        }
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 포인트 변경 기록
+     * - 메모리 매핑 영역에 쓰고 바로 반환하며, 디스크 반영은 awaitDurable 로 기다립니다.
+     * @param userId
+     * @param amount
+     * @param type
+     * @param updateMillis
+     * @return 기록 순번 (기록하지 않으면 0)
+     */
+    public long append(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!enabled) {
+            return 0;
+        }
+        appendLock.lock();
+        try {
+            reserve(1);
+            return write(userId, amount, type, updateMillis);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 한 사용자의 포인트 변경 여러 건을 요청 순서대로 기록
+     * - 필요한 매핑 영역을 먼저 확보한 뒤 쓰므로, 모두 기록하거나 하나도 기록하지 않습니다.
+     * @param userId
+     * @param operations
+     * @param updateMillis
+     * @return 마지막 기록 순번 (기록하지 않으면 0)
+     */
+    public long append(long userId, List<PointOperation> operations, long updateMillis) {
+        if (!enabled || operations.isEmpty()) {
+            return 0;
+        }
+        appendLock.lock();
+        try {
+            reserve(operations.size());
+            long sequence = 0;
+            for (PointOperation operation : operations) {
+                sequence = write(userId, operation.amount(), operation.type(), updateMillis);
+            }
+            return sequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 해당 순번까지 디스크에 반영될 때까지 대기
+     * @param sequence append 가 돌려준 순번
+     */
+    public void awaitDurable(long sequence) {
+        if (!enabled || sequence <= durableSequence) {
+            return;
+        }
+        durableLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (!running) {
+                    throw new IllegalStateException("포인트 변경 로그가 닫혀 기록을 보장할 수 없습니다.");
+                }
+                durableChanged.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 변경 로그 기록 대기가 중단되었습니다.", e);
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    /**
+     * 기록된 레코드를 순서대로 전달
+     * - compact 로 로그에서 제거된 구간은 보관 파일에서 읽으며, compact 와 동시에 호출하지 않습니다.
+     * @param fromSequence 이 순번 다음 레코드부터 전달 (처음부터면 0)
+     * @param action
+     * @return 전달한 레코드 수
+     * @throws IllegalStateException 보관 파일이 없어 fromSequence 다음 레코드부터 이어 읽을 수 없는 경우
+     */
+    public long replay(long fromSequence, Consumer<WalRecord> action) {
+        return replay(fromSequence, Long.MAX_VALUE, action);
+    }
+
+    /**
+     * 기록된 레코드 중 지정한 구간만 순서대로 전달
+     * - toSequence 가 baseSequence 이하면 보관 파일만 읽으므로 compact 와 동시에 호출해도 됩니다.
+     * @param fromSequence 이 순번 다음 레코드부터 전달 (처음부터면 0)
+     * @param toSequence 이 순번까지 전달 (포함)
+     * @param action
+     * @return 전달한 레코드 수
+     * @throws IllegalStateException 보관 파일이 없어 fromSequence 다음 레코드부터 이어 읽을 수 없는 경우
+     */
+    public long replay(long fromSequence, long toSequence, Consumer<WalRecord> action) {
+        if (!enabled) {
+            return 0;
+        }
+        long last;
+        long base;
+        appendLock.lock();
+        try {
+            last = Math.min(writtenSequence, toSequence);
+            base = baseSequence;
+        } finally {
+            appendLock.unlock();
+        }
+        long sequence = fromSequence;
+        try {
+            if (sequence < base) {
+                for (Archive archive : archives(base)) {
+                    if (archive.to() > sequence && sequence < last) {
+                        sequence = replayArchive(archive, sequence, last, action);
+                    }
+                }
+                if (sequence < Math.min(base, last)) {
+                    throw new IllegalStateException("보관 파일이 없어 포인트 변경을 이어 읽을 수 없습니다. from = "
+                            + fromSequence + ", baseSequence = " + base);
+                }
+            }
+            ByteBuffer batch = ByteBuffer.allocate(RECORD_SIZE * READ_BATCH);
+            while (sequence < last) {
+                batch.clear();
+                int count = (int) Math.min(READ_BATCH, last - sequence);
+                batch.limit(count * RECORD_SIZE);
+                readFully(channel, batch, position(sequence));
+                for (int i = 0; i < count; i++) {
+                    action.accept(decode(batch, i * RECORD_SIZE, ++sequence));
+                }
+            }
+            return Math.max(0, sequence - fromSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 보관 파일을 포함해 재생할 수 있는 첫 레코드 직전 순번
+     * - 보관 파일이 순번 구간 사이에 빠짐없이 이어지는 범위만 인정합니다.
+     * @return 순번 (처음부터 남아 있으면 0)
+     */
+    public long firstSequence() {
+        if (!enabled) {
+            return 0;
+        }
+        long base = baseSequence();
+        try {
+            List<Archive> archives = archives(base);
+            return archives.isEmpty() ? base : archives.get(0).from() - 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지정한 순번까지의 레코드를 보관 파일로 옮기고 로그에서 제거
+     * - 제거할 구간은 더 이상 바뀌지 않으므로 락 없이 복사하고, 이후 기록분만 락을 잡고 새 로그로 옮깁니다.
+     * - 보관 파일은 같은 형식의 로그로, 삭제하지 않습니다.
+     * @param throughSequence 스냅샷에 반영된 마지막 순번
+     * @return 보관 파일 경로 (제거할 레코드가 없으면 null)
+     */
+    public Path compact(long throughSequence) throws IOException {
+        if (!enabled) {
+            return null;
+        }
+        long base;
+        long archiveLength;
+        FileChannel current;
+        appendLock.lock();
+        try {
+            if (throughSequence <= baseSequence || throughSequence > writtenSequence) {
+                return null;
+            }
+            base = baseSequence;
+            archiveLength = position(throughSequence);
+            current = channel;
+            buffer.force();
+        } finally {
+            appendLock.unlock();
+        }
+
+        Path archive = path.resolveSibling(path.getFileName() + "." + (base + 1) + "-" + throughSequence);
+        try (FileChannel out = FileChannel.open(archive, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            transfer(current, 0, archiveLength, out, 0);
+            out.force(true);
+        }
+        syncDirectory();
+
+        appendLock.lock();
+        try {
+            buffer.force();
+            Path temp = path.resolveSibling(path.getFileName() + ".compact");
+            FileChannel next = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            writeHeader(next, throughSequence);
+            long tail = position(writtenSequence) - position(throughSequence);
+            transfer(channel, position(throughSequence), tail, next, HEADER_SIZE);
+            next.force(true);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+
+            channel.close();
+            channel = next;
+            baseSequence = throughSequence;
+            mappedFrom = position(writtenSequence);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, mappedFrom, mapSize);
+            publish(writtenSequence);
+        } finally {
+            appendLock.unlock();
+        }
+        log.info("포인트 변경 로그를 정리했습니다. archive = {}, baseSequence = {}", archive, throughSequence);
+        return archive;
+    }
+
+    /**
+     * 로그에 남아 있는 첫 레코드 직전 순번
+     * @return 순번 (정리한 적이 없으면 0)
+     */
+    public long baseSequence() {
+        appendLock.lock();
+        try {
+            return baseSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 기록된 순번
+     * @return 순번 (기록이 없으면 0)
+     */
+    public long lastSequence() {
+        appendLock.lock();
+        try {
+            return writtenSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 기록을 디스크에 반영하고 파일을 닫음
+     */
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join();
+        sync();
+        durableLock.lock();
+        try {
+            durableChanged.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+        channel.close();
+    }
+
+    private void open() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() < HEADER_SIZE) {
+                writeHeader(channel, 0);
+                channel.force(true);
+                syncDirectory();
+            }
+            baseSequence = readHeader();
+            long records = countValidRecords();
+            writtenSequence = baseSequence + records;
+            durableSequence = writtenSequence;
+            // 쓰다 만 레코드 뒤에 남은 이전 데이터가 나중에 유효한 레코드로 읽히지 않도록 잘라냅니다.
+            mappedFrom = position(writtenSequence);
+            channel.truncate(mappedFrom);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, mappedFrom, mapSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 변경 로그를 열 수 없습니다. path = " + path, e);
+        }
+        log.info("포인트 변경 로그를 열었습니다. path = {}, baseSequence = {}, lastSequence = {}",
+                path, baseSequence, writtenSequence);
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "point-wal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // base 에서 끝나는 보관 파일을 거꾸로 이어 붙여, 순번 구간이 빠짐없이 이어지는 보관 파일만 오래된 순서로 돌려줍니다.
+    private List<Archive> archives(long base) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Pattern pattern = Pattern.compile(Pattern.quote(path.getFileName().toString()) + "\\.(\\d+)-(\\d+)");
+        List<Archive> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    found.add(new Archive(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), file));
+                }
+            });
+        }
+        found.sort(Comparator.comparingLong(Archive::to).reversed());
+        List<Archive> chain = new ArrayList<>();
+        long next = base;
+        for (Archive archive : found) {
+            if (archive.to() == next) {
+                chain.add(0, archive);
+                next = archive.from() - 1;
+            }
+        }
+        return chain;
+    }
+
+    // 보관 파일에서 sequence 다음 레코드부터 끝까지 전달하고, 마지막으로 전달한 순번을 돌려줍니다.
+    private long replayArchive(Archive archive, long sequence, long last, Consumer<WalRecord> action) throws IOException {
+        if (archive.from() > sequence + 1) {
+            throw new IllegalStateException("보관 파일이 없어 포인트 변경을 이어 읽을 수 없습니다. from = "
+                    + sequence + ", archive = " + archive.file());
+        }
+        try (FileChannel source = FileChannel.open(archive.file(), StandardOpenOption.READ)) {
+            long archiveBase = archive.from() - 1;
+            ByteBuffer batch = ByteBuffer.allocate(RECORD_SIZE * READ_BATCH);
+            long to = Math.min(archive.to(), last);
+            while (sequence < to) {
+                batch.clear();
+                int count = (int) Math.min(READ_BATCH, to - sequence);
+                batch.limit(count * RECORD_SIZE);
+                readFully(source, batch, HEADER_SIZE + (sequence - archiveBase) * RECORD_SIZE);
+                for (int i = 0; i < count; i++) {
+                    if (!isValid(batch, i * RECORD_SIZE)) {
+                        throw new IllegalStateException("보관 파일의 레코드가 손상되었습니다. file = " + archive.file()
+                                + ", sequence = " + (sequence + 1));
+                    }
+                    action.accept(decode(batch, i * RECORD_SIZE, ++sequence));
+                }
+            }
+        }
+        return sequence;
+    }
+
+    // sequence 번 레코드가 끝나는(다음 레코드가 시작하는) 파일 위치
+    private long position(long sequence) {
+        return HEADER_SIZE + (sequence - baseSequence) * RECORD_SIZE;
+    }
+
+    private static void writeHeader(FileChannel target, long baseSequence) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putLong(8, baseSequence);
+        header.putInt(CHECKSUM_OFFSET, checksum(header, 0, CHECKSUM_OFFSET));
+        while (header.hasRemaining()) {
+            target.write(header, header.position());
+        }
+    }
+
+    private long readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || header.getInt(CHECKSUM_OFFSET) != checksum(header, 0, CHECKSUM_OFFSET)) {
+            throw new IllegalStateException("포인트 변경 로그 헤더가 올바르지 않습니다. path = " + path);
+        }
+        return header.getLong(8);
+    }
+
+    private static void transfer(FileChannel source, long position, long count, FileChannel target, long targetPosition)
+            throws IOException {
+        long done = 0;
+        while (done < count) {
+            done += source.transferTo(position + done, count - done, target.position(targetPosition + done));
+        }
+    }
+
+    private long countValidRecords() throws IOException {
+        long fileRecords = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        ByteBuffer batch = ByteBuffer.allocate(RECORD_SIZE * READ_BATCH);
+        long records = 0;
+        while (records < fileRecords) {
+            batch.clear();
+            int count = (int) Math.min(READ_BATCH, fileRecords - records);
+            batch.limit(count * RECORD_SIZE);
+            readFully(channel, batch, HEADER_SIZE + records * RECORD_SIZE);
+            for (int i = 0; i < count; i++) {
+                if (!isValid(batch, i * RECORD_SIZE)) {
+                    return records;
+                }
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private static void readFully(FileChannel source, ByteBuffer target, long position) throws IOException {
+        long offset = position;
+        while (target.hasRemaining()) {
+            int read = source.read(target, offset);
+            if (read < 0) {
+                throw new IOException("포인트 변경 로그가 예상보다 짧습니다. position = " + offset);
+            }
+            offset += read;
+        }
+    }
+
+    // 다음 records 건을 쓸 매핑 영역을 확보합니다. 실패하면 아무것도 쓰지 않은 상태로 예외를 던집니다.
+    private void reserve(int records) {
+        long position = position(writtenSequence);
+        long length = (long) records * RECORD_SIZE;
+        if (position + length > mappedFrom + buffer.capacity()) {
+            remap(position, length);
+        }
+    }
+
+    private long write(long userId, long amount, TransactionType type, long updateMillis) {
+        int offset = (int) (position(writtenSequence) - mappedFrom);
+        buffer.putLong(offset, userId);
+        buffer.putLong(offset + 8, amount);
+        buffer.putLong(offset + 16, updateMillis);
+        buffer.put(offset + TYPE_OFFSET, type == TransactionType.CHARGE ? CHARGE : USE);
+        buffer.putInt(offset + CHECKSUM_OFFSET, checksum(buffer, offset));
+        return ++writtenSequence;
+    }
+
+    private void remap(long position, long length) {
+        try {
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(mapSize, length));
+            mappedFrom = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 새로 만든 파일과 이름 변경이 장애 후에도 남도록 디렉터리를 디스크에 반영합니다.
+    // 디렉터리를 열 수 없는 환경(Windows)에서는 건너뜁니다.
+    private void syncDirectory() {
+        Path directory = path.toAbsolutePath().getParent();
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("포인트 변경 로그 디렉터리를 디스크에 반영하지 못했습니다. directory = {}", directory, e);
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            LockSupport.parkNanos(groupCommitNanos);
+            try {
+                sync();
+            } catch (RuntimeException e) {
+                log.error("포인트 변경 로그를 디스크에 반영하지 못했습니다.", e);
+            }
+        }
+    }
+
+    // 마지막 반영 이후 기록된 구간만 디스크에 내리고, 대기 중인 요청을 한 번에 깨웁니다.
+    private void sync() {
+        long target;
+        MappedByteBuffer current;
+        long durableFrom;
+        long end;
+        appendLock.lock();
+        try {
+            target = writtenSequence;
+            current = buffer;
+            // 현재 매핑 이전 구간은 remap, compact 시점에 이미 반영되었습니다.
+            durableFrom = Math.max(0, position(Math.max(durableSequence, baseSequence)) - mappedFrom);
+            end = position(target) - mappedFrom;
+        } finally {
+            appendLock.unlock();
+        }
+        if (target <= durableSequence) {
+            return;
+        }
+
+        current.force((int) durableFrom, (int) (end - durableFrom));
+        publish(target);
+    }
+
+    private void publish(long sequence) {
+        durableLock.lock();
+        try {
+            if (sequence > durableSequence) {
+                durableSequence = sequence;
+                durableChanged.signalAll();
+            }
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    private static boolean isValid(ByteBuffer source, int offset) {
+        byte type = source.get(offset + TYPE_OFFSET);
+        return (type == CHARGE || type == USE) && source.getInt(offset + CHECKSUM_OFFSET) == checksum(source, offset);
+    }
+
+    private static int checksum(ByteBuffer source, int offset) {
+        return checksum(source, offset, TYPE_OFFSET + 1);
+    }
+
+    private static WalRecord decode(ByteBuffer source, int offset, long sequence) {
+        return new WalRecord(
+                sequence,
+                source.getLong(offset),
+                source.getLong(offset + 8),
+                source.get(offset + TYPE_OFFSET) == CHARGE ? TransactionType.CHARGE : TransactionType.USE,
+                source.getLong(offset + 16)
+        );
+    }
+
+    /**
+     * compact 로 만든 보관 파일
+     * - from ~ to : 보관한 레코드 순번 구간 (양 끝 포함)
+     */
+    private record Archive(long from, long to, Path file) {
+    }
+
+    private static int checksum(ByteBuffer source, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(source.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * write-ahead log 에 기록된 포인트 변경 한 건
+ * - sequence : 1 부터 시작하는 기록 순번
+ */
+public record WalRecord(
+        long sequence,
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+
+    /**
+     * 이 변경을 반영한 잔액
+     * @param userPoint 변경 전 잔액 (없으면 null)
+     * @return 변경 후 UserPoint
+     */
+    public UserPoint applyTo(UserPoint userPoint) {
+        long point = userPoint == null ? 0 : userPoint.point();
+        return new UserPoint(userId, type == TransactionType.CHARGE ? point + amount : point - amount, updateMillis);
+    }
+}
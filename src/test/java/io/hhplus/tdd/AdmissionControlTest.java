@@ -0,0 +1,130 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.admission.AdmissionControl;
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 충전/사용 요청 수 제한 테스트
+ */
+public class AdmissionControlTest {
+
+    @Test
+    void 사용자별_한도를_넘으면_바로_거절하고_다른_사용자는_처리() {
+        //given
+        AdmissionControl admissionControl = new AdmissionControl(100, 2);
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+        admissionControl.execute(1L, () -> pending);
+        admissionControl.execute(1L, () -> pending);
+
+        //when
+        PointOverloadedException exception = assertThrows(PointOverloadedException.class,
+                () -> admissionControl.execute(1L, () -> CompletableFuture.completedFuture(1L)));
+        CompletableFuture<Long> other = admissionControl.execute(2L, () -> CompletableFuture.completedFuture(2L));
+
+        //then
+        assertEquals(1L, exception.retryAfterSeconds());
+        assertEquals(2L, other.join().longValue());
+        assertEquals(2, admissionControl.inFlight(1L));
+        assertEquals(0, admissionControl.inFlight(2L));
+    }
+
+    @Test
+    void 거절_예외는_스택_트레이스와_덧붙인_예외를_남기지_않음() {
+        //given
+        AdmissionControl admissionControl = new AdmissionControl(100, 1);
+        admissionControl.execute(1L, CompletableFuture::new);
+
+        //when
+        PointOverloadedException first = assertThrows(PointOverloadedException.class,
+                () -> admissionControl.execute(1L, () -> CompletableFuture.completedFuture(1L)));
+        first.addSuppressed(new IllegalStateException("다른 요청의 실패"));
+        PointOverloadedException second = assertThrows(PointOverloadedException.class,
+                () -> admissionControl.execute(1L, () -> CompletableFuture.completedFuture(1L)));
+
+        //then
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals(0, second.getSuppressed().length);
+    }
+
+    @Test
+    void 처리가_끝나면_한도를_반납() {
+        //given
+        AdmissionControl admissionControl = new AdmissionControl(100, 1);
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+        admissionControl.execute(1L, () -> pending);
+
+        //when
+        pending.completeExceptionally(new IllegalArgumentException("실패"));
+        CompletableFuture<Long> next = admissionControl.execute(1L, () -> CompletableFuture.completedFuture(1L));
+        assertThrows(IllegalArgumentException.class, () -> admissionControl.execute(1L, () -> {
+            throw new IllegalArgumentException("실패");
+        }));
+
+        //then
+        assertEquals(1L, next.join().longValue());
+        assertEquals(0, admissionControl.inFlight(1L));
+        assertEquals(0, admissionControl.inFlight());
+    }
+
+    @Test
+    void 전체_한도를_넘으면_거절() {
+        //given
+        AdmissionControl admissionControl = new AdmissionControl(2, 8);
+        admissionControl.execute(1L, CompletableFuture::new);
+        admissionControl.execute(2L, CompletableFuture::new);
+
+        //when
+        //then
+        assertThrows(PointOverloadedException.class,
+                () -> admissionControl.execute(3L, () -> CompletableFuture.completedFuture(3L)));
+        assertEquals(2, admissionControl.inFlight());
+    }
+
+    @Test
+    void 일괄_처리는_전체_한도_한_건과_사용자마다_한_건씩_차지() {
+        //given
+        AdmissionControl admissionControl = new AdmissionControl(100, 1);
+        int[] inFlight = new int[3];
+
+        //when
+        String result = admissionControl.executeAll(List.of(1L, 2L), () -> {
+            inFlight[0] = admissionControl.inFlight();
+            inFlight[1] = admissionControl.inFlight(1L);
+            inFlight[2] = admissionControl.inFlight(2L);
+            return "done";
+        });
+
+        //then
+        assertEquals("done", result);
+        assertEquals(1, inFlight[0]);
+        assertEquals(1, inFlight[1]);
+        assertEquals(1, inFlight[2]);
+        assertEquals(0, admissionControl.inFlight());
+        assertEquals(0, admissionControl.inFlight(1L));
+    }
+
+    @Test
+    void 일괄_처리에_한도에_닿은_사용자가_있으면_차지한_한도를_돌려주고_거절() {
+        //given
+        AdmissionControl admissionControl = new AdmissionControl(100, 1);
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+        admissionControl.execute(2L, () -> pending);
+
+        //when
+        assertThrows(PointOverloadedException.class,
+                () -> admissionControl.executeAll(List.of(1L, 2L, 3L), () -> "done"));
+
+        //then
+        assertEquals(0, admissionControl.inFlight(1L));
+        assertEquals(1, admissionControl.inFlight(2L));
+        assertEquals(0, admissionControl.inFlight(3L));
+        assertEquals(1, admissionControl.inFlight());
+    }
+}
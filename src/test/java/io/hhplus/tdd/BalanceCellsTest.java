@@ -0,0 +1,246 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.BalanceCells;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.execution.PointExecutionMode;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidationException;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 락 없는 잔액 셀(CAS 모드) 테스트
+ */
+public class BalanceCellsTest {
+
+    private final UserPointTable userPointTable = new UserPointTable();
+
+    @Test
+    void 동시_충전은_최대_한도까지만_성공() throws Exception {
+        //given
+        PointService pointService = casPointService();
+        AtomicInteger succeeded = new AtomicInteger();
+
+        //when
+        runConcurrently(100, () -> {
+            try {
+                pointService.charge(1L, 200L);
+                succeeded.incrementAndGet();
+            } catch (PointValidationException ignored) {
+            }
+        });
+        pointService.flushBalances();
+
+        //then
+        assertEquals(50, succeeded.get());
+        assertEquals(10000L, pointService.selectPoint(1L).point());
+        assertEquals(10000L, userPointTable.selectById(1L).point());
+        pointService.close();
+    }
+
+    @Test
+    void 동시_사용은_잔액이_음수가_되지_않음() throws Exception {
+        //given
+        userPointTable.insertOrUpdate(1L, 1000L);
+        PointService pointService = casPointService();
+        AtomicInteger succeeded = new AtomicInteger();
+
+        //when
+        runConcurrently(30, () -> {
+            try {
+                pointService.use(1L, 100L);
+                succeeded.incrementAndGet();
+            } catch (PointValidationException ignored) {
+            }
+        });
+        pointService.flushBalances();
+
+        //then
+        assertEquals(10, succeeded.get());
+        assertEquals(0L, userPointTable.selectById(1L).point());
+        pointService.close();
+    }
+
+    @Test
+    void 저장소에는_버전_순서로_반영되고_중간_값은_건너뜀() throws Exception {
+        //given
+        List<Long> saved = Collections.synchronizedList(new ArrayList<>());
+        UserPointTable recordingTable = new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                saved.add(amount);
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        BalanceCells balanceCells = new BalanceCells(new UserPointRepository(recordingTable));
+
+        //when
+        runConcurrently(200, () -> balanceCells.update(1L, current -> current + 1));
+        balanceCells.flush();
+        balanceCells.close();
+
+        //then
+        assertEquals(200L, recordingTable.selectById(1L).point());
+        assertEquals(200L, saved.get(saved.size() - 1).longValue());
+        assertTrue(saved.size() < 200, "saved = " + saved.size());
+        for (int i = 1; i < saved.size(); i++) {
+            assertTrue(saved.get(i - 1) < saved.get(i), "saved = " + saved);
+        }
+    }
+
+    @Test
+    void 갱신_후처리는_갱신한_순서대로_실행() throws Exception {
+        //given
+        BalanceCells balanceCells = new BalanceCells(new UserPointRepository(userPointTable));
+        List<Long> committed = Collections.synchronizedList(new ArrayList<>());
+
+        //when
+        runConcurrently(500, () -> balanceCells.update(1L, current -> current + 1, balance -> committed.add(balance)));
+        balanceCells.close();
+
+        //then
+        assertEquals(500, committed.size());
+        for (int i = 0; i < committed.size(); i++) {
+            assertEquals(i + 1L, committed.get(i).longValue());
+        }
+    }
+
+    @Test
+    void 오래_갱신되지_않은_셀은_제거되고_다음_갱신은_저장된_잔액에서_이어짐() throws Exception {
+        //given
+        BalanceCells balanceCells = new BalanceCells(new UserPointRepository(userPointTable), 10);
+        for (long userId = 1; userId <= 10; userId++) {
+            balanceCells.update(userId, current -> current + 100);
+        }
+        balanceCells.flush();
+
+        //when
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (balanceCells.size() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        long balance = balanceCells.update(1L, current -> current + 100);
+        balanceCells.close();
+
+        //then
+        assertEquals(200L, balance);
+        assertEquals(200L, userPointTable.selectById(1L).point());
+        assertEquals(100L, userPointTable.selectById(2L).point());
+        assertTrue(balanceCells.size() <= 1, "size = " + balanceCells.size());
+    }
+
+    @Test
+    void 후처리가_실패하면_잔액을_되돌리고_뒤의_갱신은_되돌린_잔액에서_다시_시도() throws Exception {
+        //given
+        BalanceCells balanceCells = new BalanceCells(new UserPointRepository(userPointTable));
+        balanceCells.update(1L, current -> current + 100);
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch releaseCommit = new CountDownLatch(1);
+        CountDownLatch secondUpdated = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Long> committed = Collections.synchronizedList(new ArrayList<>());
+        Thread failing = new Thread(() -> {
+            try {
+                balanceCells.update(1L, current -> current + 1000, balance -> {
+                    committing.countDown();
+                    await(releaseCommit);
+                    throw new IllegalStateException("로그를 남기지 못했습니다.");
+                });
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+        });
+        failing.start();
+        committing.await();
+
+        //when
+        Thread second = new Thread(() -> balanceCells.update(1L, current -> {
+            secondUpdated.countDown();
+            return current + 10;
+        }, committed::add));
+        second.start();
+        secondUpdated.await();
+        Thread.sleep(50); // 두 번째 갱신이 실패할 잔액을 기준으로 차례를 기다리는 동안
+        releaseCommit.countDown();
+        failing.join();
+        second.join();
+        balanceCells.flush();
+
+        //then
+        assertTrue(failure.get() instanceof IllegalStateException);
+        assertEquals(List.of(110L), committed);
+        assertEquals(110L, balanceCells.get(1L).point());
+        assertEquals(110L, userPointTable.selectById(1L).point());
+        balanceCells.close();
+    }
+
+    @Test
+    void 저장소_반영에_실패하면_다시_시도하고_flush_는_반영될_때까지_대기() throws Exception {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+        UserPointTableBalanceStore failingStore = new UserPointTableBalanceStore(userPointTable) {
+            @Override
+            public UserPoint save(long userId, long point) {
+                if (attempts.incrementAndGet() <= 3) {
+                    throw new IllegalStateException("저장소 오류");
+                }
+                return super.save(userId, point);
+            }
+        };
+        BalanceCells balanceCells = new BalanceCells(new UserPointRepository(failingStore, 0, PointMetrics.simple()));
+
+        //when
+        balanceCells.update(1L, current -> current + 100);
+        balanceCells.flush();
+
+        //then
+        assertEquals(4, attempts.get());
+        assertEquals(100L, userPointTable.selectById(1L).point());
+        balanceCells.close();
+    }
+
+    private PointService casPointService() {
+        return new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(new PointHistoryTable()), new PointValidator(), new UserLockManager(),
+                new PointExecutor(PointExecutionMode.CAS), PointMetrics.simple(), PointWriteAheadLog.disabled());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runConcurrently(int tasks, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < tasks; i++) {
+            executorService.execute(task);
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+    }
+}
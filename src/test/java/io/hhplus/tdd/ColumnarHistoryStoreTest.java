@@ -0,0 +1,73 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.ColumnarHistoryStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 열 기반 내역 저장소 테스트
+ */
+public class ColumnarHistoryStoreTest {
+
+    private static final int ROWS = 100_000;
+    private static final int USERS = 1_000;
+
+    @Test
+    void 사용자별로_기록_순서대로_조회() {
+        //given
+        ColumnarHistoryStore store = new ColumnarHistoryStore();
+
+        //when
+        for (int i = 1; i <= 10; i++) {
+            store.insert(i % 2, i * 100L, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i, history -> { });
+        }
+
+        //then
+        List<PointHistory> histories = store.findAllByUserId(1L);
+        assertEquals(5, histories.size());
+        assertEquals(new PointHistory(3L, 1L, 300L, TransactionType.USE, 3L), histories.get(1));
+        assertEquals(List.of(), store.findAllByUserId(2L));
+    }
+
+    @Test
+    void 커서_다음_내역부터_limit_만큼_조회() {
+        //given
+        ColumnarHistoryStore store = new ColumnarHistoryStore();
+        for (int i = 1; i <= 20; i++) {
+            store.insert(i % 2, 100L, TransactionType.CHARGE, i, history -> { });
+        }
+
+        //when
+        List<PointHistory> page = store.findPageByUserId(1L, 5L, 3);
+
+        //then
+        assertEquals(List.of(7L, 9L, 11L), page.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 여러_사용자의_많은_내역도_빠짐없이_사용자별로_조회() {
+        //given
+        ColumnarHistoryStore store = new ColumnarHistoryStore();
+        List<PointHistory> inserted = new ArrayList<>();
+
+        //when
+        for (int id = 1; id <= ROWS; id++) {
+            store.insert(id % USERS, id, TransactionType.CHARGE, id, inserted::add);
+        }
+
+        //then
+        assertEquals(ROWS, store.size());
+        assertEquals(ROWS, inserted.size());
+        List<PointHistory> histories = store.findAllByUserId(7L);
+        assertEquals(ROWS / USERS, histories.size());
+        assertEquals(new PointHistory(7L, 7L, 7L, TransactionType.CHARGE, 7L), histories.get(0));
+        assertEquals(new PointHistory(ROWS - USERS + 7L, 7L, ROWS - USERS + 7L, TransactionType.CHARGE, ROWS - USERS + 7L),
+                histories.get(histories.size() - 1));
+    }
+}
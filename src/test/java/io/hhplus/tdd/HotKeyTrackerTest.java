@@ -0,0 +1,107 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.hotkey.HotKey;
+import io.hhplus.tdd.point.hotkey.HotKeyReport;
+import io.hhplus.tdd.point.hotkey.HotKeyTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청이 몰리는 사용자 추적 테스트
+ */
+public class HotKeyTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    void 고르게_분포된_요청_사이에서_요청이_몰린_사용자를_많은_순서로_찾음() {
+        //given
+        HotKeyTracker hotKeyTracker = new HotKeyTracker(5, 60, 6, 4, 1024, clock::get);
+
+        //when
+        for (int round = 0; round < 100; round++) {
+            for (long userId = 1; userId <= 10_000; userId += 97) {
+                hotKeyTracker.record(userId);
+            }
+            for (long hot = 1; hot <= 5; hot++) {
+                for (int i = 0; i < hot * 10; i++) {
+                    hotKeyTracker.record(100_000L + hot);
+                }
+            }
+        }
+        HotKeyReport report = hotKeyTracker.topK();
+
+        //then
+        assertEquals(List.of(100_005L, 100_004L, 100_003L, 100_002L, 100_001L),
+                report.users().stream().map(HotKey::userId).toList());
+        // count-min 추정값은 실제 호출 수보다 작지 않습니다.
+        assertTrue(report.users().get(0).count() >= 5_000L);
+        assertTrue(hotKeyTracker.isHot(100_005L));
+        assertFalse(hotKeyTracker.isHot(1L));
+    }
+
+    @Test
+    void 시간_창이_지난_호출은_집계에서_빠짐() {
+        //given
+        HotKeyTracker hotKeyTracker = new HotKeyTracker(3, 60, 6, 4, 1024, clock::get);
+        for (int i = 0; i < 100; i++) {
+            hotKeyTracker.record(1L);
+        }
+
+        //when
+        clock.addAndGet(30_000L);
+        for (int i = 0; i < 10; i++) {
+            hotKeyTracker.record(2L);
+        }
+        long withinWindow = hotKeyTracker.estimate(1L);
+        clock.addAndGet(40_000L);
+        HotKeyReport report = hotKeyTracker.topK();
+
+        //then
+        assertEquals(100L, withinWindow);
+        assertEquals(List.of(new HotKey(2L, 10L)), report.users());
+        assertEquals(60L, report.windowSeconds());
+    }
+
+    @Test
+    void 지난_구간_시각으로_늦게_기록한_호출은_새_구간을_비우지_않고_버림() {
+        //given
+        HotKeyTracker hotKeyTracker = new HotKeyTracker(3, 60, 6, 4, 1024, clock::get);
+        hotKeyTracker.record(1L);
+        clock.addAndGet(60_000L);
+        for (int i = 0; i < 10; i++) {
+            hotKeyTracker.record(2L);
+        }
+
+        //when
+        // 시간 창 전의 시각을 읽은 스레드가 같은 구간 자리에 늦게 기록하는 경우
+        clock.addAndGet(-60_000L);
+        hotKeyTracker.record(1L);
+        clock.addAndGet(60_000L);
+
+        //then
+        assertEquals(10L, hotKeyTracker.estimate(2L));
+        assertEquals(0L, hotKeyTracker.estimate(1L));
+        assertEquals(List.of(new HotKey(2L, 10L)), hotKeyTracker.topK().users());
+    }
+
+    @Test
+    void 꺼져_있으면_기록하지_않음() {
+        //given
+        HotKeyTracker hotKeyTracker = HotKeyTracker.disabled();
+
+        //when
+        hotKeyTracker.record(1L);
+
+        //then
+        assertEquals(0L, hotKeyTracker.estimate(1L));
+        assertTrue(hotKeyTracker.topK().users().isEmpty());
+        assertFalse(hotKeyTracker.isHot(1L));
+    }
+}
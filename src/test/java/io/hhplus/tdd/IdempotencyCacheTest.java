@@ -0,0 +1,193 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.admission.PointOverloadedException;
+import io.hhplus.tdd.point.deadline.DeadlineStage;
+import io.hhplus.tdd.point.deadline.PointDeadlineExceededException;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Idempotency-Key 중복 제거 캐시 테스트
+ */
+public class IdempotencyCacheTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void 같은_키의_재시도는_실행하지_않고_처음_결과를_반환() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, 60_000);
+        UserPoint first = cache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> charge(1L, 1000L)).join();
+
+        //when
+        UserPoint replayed = cache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> charge(1L, 1000L)).join();
+
+        //then
+        assertEquals(first, replayed);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void 처리_중인_요청과_같은_키는_처음_실행의_결과를_기다림() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, 60_000);
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        CompletableFuture<UserPoint> first = cache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> {
+            executions.incrementAndGet();
+            return inFlight;
+        });
+
+        //when
+        CompletableFuture<UserPoint> duplicate = cache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> charge(1L, 1000L));
+        boolean doneBeforeFirst = duplicate.isDone();
+        inFlight.complete(new UserPoint(1L, 1000L, 10L));
+
+        //then
+        assertFalse(doneBeforeFirst);
+        assertEquals(first.join(), duplicate.join());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void 실패한_요청은_저장하지_않아_같은_키로_다시_실행() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, 60_000);
+        CompletableFuture<UserPoint> failed = cache.execute("key", 1L, TransactionType.USE, 500L,
+                () -> CompletableFuture.failedFuture(new IllegalArgumentException("잔액 부족")));
+
+        //when
+        UserPoint retried = cache.execute("key", 1L, TransactionType.USE, 500L, () -> charge(1L, 500L)).join();
+
+        //then
+        assertThrows(Exception.class, failed::join);
+        assertEquals(500L, retried.point());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void 잔액이_바뀌었을_수_있는_실패는_키를_유지하고_재시도에_같은_실패를_반환() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, 60_000);
+        CompletableFuture<UserPoint> failed = cache.execute("key", 1L, TransactionType.CHARGE, 500L, () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.failedFuture(new PointDeadlineExceededException(1L, DeadlineStage.WRITE));
+        });
+
+        //when
+        CompletableFuture<UserPoint> retried = cache.execute("key", 1L, TransactionType.CHARGE, 500L,
+                () -> charge(1L, 500L));
+
+        //then
+        CompletionException e = assertThrows(CompletionException.class, retried::join);
+        assertTrue(e.getCause() instanceof PointDeadlineExceededException);
+        assertThrows(CompletionException.class, failed::join);
+        assertEquals(1, executions.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void 만료된_키는_다시_실행() throws InterruptedException {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, 10);
+        cache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> charge(1L, 1000L)).join();
+        Thread.sleep(20);
+
+        //when
+        cache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> charge(1L, 1000L)).join();
+
+        //then
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void 최대_개수에_닿으면_처리가_끝난_가장_오래된_키를_비우고_새_키를_실행() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(2, 60_000);
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        cache.execute("key-0", 1L, TransactionType.CHARGE, 100L, () -> {
+            executions.incrementAndGet();
+            return inFlight;
+        });
+        cache.execute("key-1", 1L, TransactionType.CHARGE, 100L, () -> charge(1L, 100L)).join();
+
+        //when
+        cache.execute("key-2", 1L, TransactionType.CHARGE, 100L, () -> charge(1L, 100L)).join();
+        CompletableFuture<UserPoint> duplicate = cache.execute("key-0", 1L, TransactionType.CHARGE, 100L,
+                () -> charge(1L, 100L));
+        inFlight.complete(new UserPoint(1L, 100L, 10L));
+
+        //then
+        assertEquals(new UserPoint(1L, 100L, 10L), duplicate.join());
+        assertEquals(2, cache.size());
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void 보관한_키가_모두_처리_중이면_새_키는_거절() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(2, 60_000);
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        for (int i = 0; i < 2; i++) {
+            cache.execute("key-" + i, 1L, TransactionType.CHARGE, 100L, () -> {
+                executions.incrementAndGet();
+                return inFlight;
+            });
+        }
+
+        //when
+        PointOverloadedException exception = assertThrows(PointOverloadedException.class,
+                () -> cache.execute("key-2", 1L, TransactionType.CHARGE, 100L, () -> charge(1L, 100L)));
+        inFlight.complete(new UserPoint(1L, 100L, 10L));
+        cache.execute("key-2", 1L, TransactionType.CHARGE, 100L, () -> charge(1L, 100L)).join();
+
+        //then
+        assertEquals(1L, exception.retryAfterSeconds());
+        assertEquals(2, cache.size());
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void 최대_개수에_닿아도_만료된_키가_있으면_새_키를_실행() throws InterruptedException {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(1, 10);
+        cache.execute("key-0", 1L, TransactionType.CHARGE, 100L, () -> charge(1L, 100L)).join();
+        Thread.sleep(20);
+
+        //when
+        cache.execute("key-1", 1L, TransactionType.CHARGE, 100L, () -> charge(1L, 100L)).join();
+
+        //then
+        assertEquals(1, cache.size());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_예외() {
+        //given
+        IdempotencyCache cache = new IdempotencyCache(100, 60_000);
+        cache.execute("key", 1L, TransactionType.CHARGE, 1000L, () -> charge(1L, 1000L)).join();
+
+        //when //then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> cache.execute("key", 1L, TransactionType.CHARGE, 2000L, () -> charge(1L, 2000L)));
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> cache.execute("key", 1L, TransactionType.USE, 1000L, () -> charge(1L, 1000L)));
+    }
+
+    private CompletableFuture<UserPoint> charge(long userId, long amount) {
+        executions.incrementAndGet();
+        return CompletableFuture.completedFuture(new UserPoint(userId, amount, System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.execution.ConsistentHashRing;
+import io.hhplus.tdd.point.execution.PartitionedExecutor;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 파티션 실행기 테스트
+ */
+public class PartitionedExecutorTest {
+
+    private final PartitionedExecutor partitionedExecutor = new PartitionedExecutor(2, 64, PointMetrics.simple());
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        partitionedExecutor.shutdown();
+    }
+
+    @Test
+    void 동일_사용자의_작업은_같은_파티션에서_요청_순서대로_처리() throws Exception {
+        //given
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            futures.add(partitionedExecutor.submit(1L, () -> {
+                threads.add(Thread.currentThread().getName());
+                processed.add(sequence);
+                return sequence;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+
+        //then
+        assertEquals(IntStream.range(0, 100).boxed().toList(), processed);
+        assertEquals(1, threads.stream().distinct().count());
+    }
+
+    @Test
+    void 처리_중에_파티션_수를_바꿔도_작업이_유실되거나_순서가_바뀌지_않음() throws Exception {
+        //given
+        Map<Long, List<Integer>> processed = new ConcurrentHashMap<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 300; i++) {
+            if (i == 100) {
+                partitionedExecutor.rebalance(8);
+            }
+            if (i == 200) {
+                partitionedExecutor.rebalance(3);
+            }
+            for (long userId = 1; userId <= 20; userId++) {
+                long user = userId;
+                int sequence = i;
+                futures.add(partitionedExecutor.submit(user, () -> {
+                    // 앞선 작업이 끝나기 전에 옮겨진 파티션에서 다음 작업이 시작되면 순서가 바뀝니다.
+                    if (sequence % 50 == 0) {
+                        sleep(1);
+                    }
+                    processed.computeIfAbsent(user, id -> new CopyOnWriteArrayList<>()).add(sequence);
+                    return sequence;
+                }));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+
+        //then
+        assertEquals(3, partitionedExecutor.partitions());
+        for (long userId = 1; userId <= 20; userId++) {
+            assertEquals(IntStream.range(0, 300).boxed().toList(), processed.get(userId));
+        }
+    }
+
+    @Test
+    void 파티션을_하나_늘리면_일부_사용자만_옮겨짐() {
+        //given
+        ConsistentHashRing before = new ConsistentHashRing(4, 64);
+        ConsistentHashRing after = new ConsistentHashRing(5, 64);
+
+        //when
+        long moved = IntStream.range(0, 10_000)
+                .filter(userId -> before.partitionOf(userId) != after.partitionOf(userId))
+                .count();
+
+        //then
+        // 기대값은 1/5 (2,000 명), 나머지를 다시 나누는 방식이면 약 8,000 명이 옮겨집니다.
+        assertTrue(moved > 1_000 && moved < 3_000, "moved = " + moved);
+    }
+
+    @Test
+    void 작업이_Error_를_던져도_결과가_예외로_완료되고_파티션은_계속_처리() throws Exception {
+        //given
+        CompletableFuture<Integer> failed = partitionedExecutor.submit(1L, () -> {
+            throw new AssertionError("failed");
+        });
+
+        //when
+        Integer next = partitionedExecutor.submit(1L, () -> 1).get(5, TimeUnit.SECONDS);
+
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof AssertionError, "cause = " + exception.getCause());
+        assertEquals(1, next.intValue());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
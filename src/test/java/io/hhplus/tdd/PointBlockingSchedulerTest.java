@@ -0,0 +1,95 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.reactive.PointBlockingScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 리액티브 블로킹 스케줄러 테스트
+ */
+public class PointBlockingSchedulerTest {
+
+    private final PointBlockingScheduler pointBlockingScheduler = new PointBlockingScheduler(2, 100);
+
+    @AfterEach
+    void tearDown() {
+        pointBlockingScheduler.close();
+    }
+
+    @Test
+    void 요청한_만큼만_페이지를_읽고_취소하면_더_읽지_않음() throws InterruptedException {
+        //given
+        AtomicInteger pages = new AtomicInteger();
+        BlockingQueue<Long> received = new LinkedBlockingQueue<>();
+        BaseSubscriber<Long> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(3);
+            }
+
+            @Override
+            protected void hookOnNext(Long value) {
+                received.add(value);
+            }
+        };
+
+        //when
+        // 끝이 없는 조회이므로 요청과 관계없이 읽으면 페이지 수가 계속 늘어납니다.
+        pointBlockingScheduler.paged(after -> {
+            pages.incrementAndGet();
+            return new PointBlockingScheduler.Page<>(List.of(after + 1, after + 2), after + 2);
+        }).subscribe(subscriber);
+        for (int i = 0; i < 3; i++) {
+            received.poll(5, TimeUnit.SECONDS);
+        }
+        TimeUnit.MILLISECONDS.sleep(100);
+        int beforeCancel = pages.get();
+        subscriber.cancel();
+        subscriber.request(100);
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        //then
+        assertTrue(beforeCancel <= 3, "pages = " + beforeCancel);
+        assertEquals(beforeCancel, pages.get());
+        assertTrue(received.isEmpty(), "received = " + received);
+    }
+
+    @Test
+    void 마지막_페이지까지_순서대로_전달하고_완료() throws InterruptedException {
+        //given
+        BlockingQueue<Long> received = new LinkedBlockingQueue<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        //when
+        pointBlockingScheduler.paged(after -> after < 4
+                ? new PointBlockingScheduler.Page<>(List.of(after + 1, after + 2), after + 2)
+                : new PointBlockingScheduler.Page<>(List.of(after + 1), null)
+        ).subscribe(new BaseSubscriber<Long>() {
+            @Override
+            protected void hookOnNext(Long value) {
+                received.add(value);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.countDown();
+            }
+        });
+
+        //then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), List.copyOf(received));
+    }
+}
@@ -0,0 +1,192 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 사용자 단위 락 동시성 테스트
+ * - 동일 사용자의 요청은 순서대로, 서로 다른 사용자의 요청은 병렬로 처리되는지 확인합니다.
+ * - 실제 UserPointTable(HashMap)에 여러 사용자가 동시에 저장해도 잔액이 유실되지 않는지 확인합니다.
+ * - write-behind 모드에서는 테이블 저장이 멈춰 있어도 서로 다른 사용자의 충전이 함께 진행되는지 확인합니다.
+ */
+public class PointConcurrencyTest {
+
+    private static final int THREAD_COUNT = 10;
+
+    private PointService pointService;
+
+    private UserPointTable userPointTable;
+
+    private UserLockManager userLockManager;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        userLockManager = new UserLockManager();
+        pointService = new PointService(new UserPointRepository(userPointTable), new PointHistoryRepository(new PointHistoryTable()),
+                new PointValidator(), userLockManager, new PointExecutor(), PointMetrics.simple(), PointWriteAheadLog.disabled());
+    }
+
+    @Test
+    void 서로_다른_사용자_충전_요청은_병렬로_처리() throws Exception {
+        //given
+        long amount = 100L;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        userLockManager.lock(1L); // 사용자 1 의 요청이 처리 중인 상황
+
+        //when
+        Future<?> sameUser = executorService.submit(() -> pointService.charge(1L, amount));
+        Future<?> otherUser = executorService.submit(() -> pointService.charge(2L, amount));
+
+        //then
+        otherUser.get(5, TimeUnit.SECONDS);
+        assertFalse(sameUser.isDone());
+        userLockManager.unlock(1L);
+        sameUser.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+        assertEquals(amount, userPointTable.selectById(1L).point());
+        assertEquals(amount, userPointTable.selectById(2L).point());
+    }
+
+    @Test
+    void 동일_사용자_충전_요청은_순서대로_처리() throws Exception {
+        //given
+        long amount = 100L;
+
+        //when
+        chargeConcurrently(i -> 1L, amount);
+
+        //then
+        assertEquals(amount * THREAD_COUNT, userPointTable.selectById(1L).point());
+    }
+
+    @Test
+    void 많은_사용자가_동시에_충전해도_모든_잔액_유지() throws Exception {
+        //given
+        int users = 20; // HashMap 기본 용량(16)의 재할당 기준(12)을 넘겨 저장 중 재할당이 일어나도록 합니다.
+        ExecutorService executorService = Executors.newFixedThreadPool(users);
+        CountDownLatch latch = new CountDownLatch(users);
+
+        //when
+        for (int i = 0; i < users; i++) {
+            long userId = 1000L + i;
+            executorService.execute(() -> {
+                try {
+                    pointService.charge(userId, userId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        for (int i = 0; i < users; i++) {
+            long userId = 1000L + i;
+            assertEquals(userId, userPointTable.selectById(userId).point(), "userId = " + userId);
+        }
+    }
+
+    @Test
+    void 테이블_저장이_멈춰도_서로_다른_사용자의_충전은_함께_진행() throws Exception {
+        //given
+        CountDownLatch tableStalled = new CountDownLatch(1);
+        CountDownLatch releaseTable = new CountDownLatch(1);
+        UserPointTable slowTable = new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                tableStalled.countDown();
+                try {
+                    releaseTable.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        UserPointTableBalanceStore balanceStore = new UserPointTableBalanceStore(slowTable, true, PointMetrics.simple());
+        PointService writeBehindService = new PointService(new UserPointRepository(balanceStore, 100, PointMetrics.simple()),
+                new PointHistoryRepository(new PointHistoryTable()), new PointValidator(), new UserLockManager(),
+                new PointExecutor(), PointMetrics.simple(), PointWriteAheadLog.disabled());
+        int users = 5;
+        for (long userId = 1; userId <= users; userId++) {
+            writeBehindService.selectPoint(userId); // 처음 조회는 테이블에서 읽으므로 미리 읽어 둡니다.
+        }
+        writeBehindService.charge(1L, 100L);
+        tableStalled.await(); // 반영 스레드가 사용자 1 의 테이블 저장에서 멈춘 상황
+        ExecutorService executorService = Executors.newFixedThreadPool(users);
+
+        //when
+        List<Future<?>> charges = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                charges.add(executorService.submit(() -> writeBehindService.charge(id, 100L)));
+            }
+        }
+
+        //then
+        for (Future<?> charge : charges) {
+            charge.get(5, TimeUnit.SECONDS);
+        }
+        releaseTable.countDown();
+        balanceStore.close();
+        executorService.shutdown();
+        assertEquals(100L * (THREAD_COUNT + 1), slowTable.selectById(1L).point());
+        for (long userId = 2; userId <= users; userId++) {
+            assertEquals(100L * THREAD_COUNT, slowTable.selectById(userId).point(), "userId = " + userId);
+        }
+    }
+
+    @Test
+    void 처리가_끝난_사용자의_락은_레지스트리에서_제거() throws Exception {
+        //when
+        chargeConcurrently(i -> i % 3 + 1, 100L);
+
+        //then
+        assertEquals(0, userLockManager.size());
+    }
+
+    private void chargeConcurrently(IntToLongFunction userIdOf, long amount) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            long userId = userIdOf.applyAsLong(i);
+            executorService.execute(() -> {
+                try {
+                    pointService.charge(userId, amount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(); // 모든 쓰레드가 종료될 때까지 대기
+        executorService.shutdown();
+    }
+}
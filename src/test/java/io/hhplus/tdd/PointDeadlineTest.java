@@ -0,0 +1,219 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.deadline.Deadline;
+import io.hhplus.tdd.point.deadline.DeadlineStage;
+import io.hhplus.tdd.point.deadline.PointDeadlineExceededException;
+import io.hhplus.tdd.point.execution.PointExecutionMode;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 충전/사용 처리 기한 테스트
+ */
+public class PointDeadlineTest {
+
+    private SimpleMeterRegistry registry;
+
+    private UserPointTable userPointTable;
+
+    private UserLockManager userLockManager;
+
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        userLockManager = new UserLockManager();
+        // 조회가 느린 테이블 (잔액을 읽는 동안 기한이 지나는 상황)
+        userPointTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                sleep(100);
+                return super.selectById(id);
+            }
+        };
+        PointMetrics pointMetrics = new PointMetrics(registry);
+        pointService = new PointService(
+                new UserPointRepository(new UserPointTableBalanceStore(userPointTable), 0, pointMetrics),
+                new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable(), pointMetrics), false, 1, 1, pointMetrics),
+                new PointValidator(), userLockManager, new PointExecutor(), pointMetrics,
+                PointWriteAheadLog.disabled());
+    }
+
+    @Test
+    void 락을_기한까지_얻지_못하면_포기하고_잔액은_그대로() throws Exception {
+        //given
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            userLockManager.lock(1L);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                userLockManager.unlock(1L);
+            }
+        });
+        holder.start();
+        locked.await();
+
+        //when
+        long start = System.nanoTime();
+        PointDeadlineExceededException exception = assertThrows(PointDeadlineExceededException.class,
+                () -> pointService.charge(1L, 1000L, Deadline.afterMillis(50)));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        holder.join();
+
+        //then
+        assertEquals(DeadlineStage.LOCK, exception.stage());
+        assertTrue(waitedMillis < 1000, "waited = " + waitedMillis + "ms");
+        assertEquals(0L, userPointTable.selectById(1L).point());
+        assertEquals(0, userLockManager.size());
+        assertEquals(1.0, exceeded(DeadlineStage.LOCK));
+    }
+
+    @Test
+    void 잔액을_읽는_중에_기한이_지나면_저장하지_않음() {
+        //given
+        // 한 번 읽은 잔액은 저장소 앞단에서 읽으므로, 테이블을 처음 읽는 사용자로 확인합니다.
+        userPointTable.insertOrUpdate(1L, 2000L);
+        userPointTable.insertOrUpdate(2L, 2000L);
+
+        //when
+        PointDeadlineExceededException exception = assertThrows(PointDeadlineExceededException.class,
+                () -> pointService.use(1L, 1000L, Deadline.afterMillis(50)));
+        PointDeadlineExceededException chargeException = assertThrows(PointDeadlineExceededException.class,
+                () -> pointService.charge(2L, 1000L, Deadline.afterMillis(50)));
+
+        //then
+        assertEquals(DeadlineStage.WRITE, exception.stage());
+        assertEquals(DeadlineStage.WRITE, chargeException.stage());
+        assertEquals(2000L, userPointTable.selectById(1L).point());
+        assertEquals(2000L, userPointTable.selectById(2L).point());
+        assertEquals(2.0, exceeded(DeadlineStage.WRITE));
+    }
+
+    @Test
+    void 실행_전에_기한이_지났으면_바로_포기하고_기한이_없으면_그대로_처리() throws Exception {
+        //given
+        Deadline expired = Deadline.afterMillis(1);
+        Thread.sleep(5);
+
+        //when
+        PointDeadlineExceededException exception = assertThrows(PointDeadlineExceededException.class,
+                () -> pointService.chargeAsync(1L, 1000L, expired));
+        UserPoint charged = pointService.chargeAsync(1L, 1000L, Deadline.none()).get();
+
+        //then
+        assertEquals(DeadlineStage.QUEUED, exception.stage());
+        assertEquals(1000L, charged.point());
+        assertEquals(1.0, exceeded(DeadlineStage.QUEUED));
+    }
+
+    @Test
+    void 묶음_모드에서_기다리는_동안_기한이_지난_요청은_저장하지_않음() throws Exception {
+        //given
+        PointMetrics pointMetrics = new PointMetrics(registry);
+        PointExecutor pointExecutor = new PointExecutor(PointExecutionMode.COALESCE);
+        PointService coalescing = new PointService(
+                new UserPointRepository(new UserPointTableBalanceStore(userPointTable), 0, pointMetrics),
+                new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable(), pointMetrics), false, 1, 1, pointMetrics),
+                new PointValidator(), userLockManager, pointExecutor, pointMetrics,
+                PointWriteAheadLog.disabled());
+        userLockManager.lock(1L); // 앞선 묶음이 처리 중인 상황
+
+        //when
+        CompletableFuture<UserPoint> expiring = coalescing.chargeAsync(1L, 1000L, Deadline.afterMillis(50));
+        CompletableFuture<UserPoint> unbounded = coalescing.chargeAsync(1L, 300L, Deadline.none());
+        Thread.sleep(200);
+        userLockManager.unlock(1L);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> expiring.get(5, TimeUnit.SECONDS));
+        UserPoint charged = unbounded.get(5, TimeUnit.SECONDS);
+        pointExecutor.shutdown();
+
+        //then
+        assertTrue(exception.getCause() instanceof PointDeadlineExceededException);
+        assertEquals(300L, charged.point());
+        assertEquals(300L, userPointTable.selectById(1L).point());
+    }
+
+    @Test
+    void 아주_큰_제한_시간은_넘치지_않고_기한_없음에_가깝게_처리() {
+        //when
+        Deadline deadline = Deadline.afterMillis(Long.MAX_VALUE);
+        UserPoint charged = pointService.charge(1L, 1000L, deadline);
+
+        //then
+        assertTrue(deadline.bounded());
+        assertFalse(deadline.expired());
+        assertEquals(1000L, charged.point());
+    }
+
+    @Test
+    void 일괄_처리에서_락을_기한까지_얻지_못한_사용자만_실패() throws Exception {
+        //given
+        userLockManager.lock(1L); // 사용자 1 의 다른 요청이 처리 중인 상황
+        List<PointOperation> operations = List.of(
+                new PointOperation(2L, TransactionType.CHARGE, 500L),
+                new PointOperation(1L, TransactionType.CHARGE, 1000L)
+        );
+
+        //when
+        CompletableFuture<List<PointOperationResult>> batch = CompletableFuture.supplyAsync(
+                () -> pointService.applyBatch(operations, Deadline.afterMillis(1500)));
+        List<PointOperationResult> results = batch.get(5, TimeUnit.SECONDS);
+        userLockManager.unlock(1L);
+
+        //then
+        assertTrue(results.get(0).success());
+        assertEquals(500L, results.get(0).point());
+        assertFalse(results.get(1).success());
+        assertEquals(0L, results.get(1).point());
+        assertEquals(0L, userPointTable.selectById(1L).point());
+        assertEquals(500L, userPointTable.selectById(2L).point());
+        assertEquals(1.0, exceeded(DeadlineStage.LOCK));
+    }
+
+    private double exceeded(DeadlineStage stage) {
+        return registry.get("point.deadline.exceeded").tag("stage", stage.name()).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
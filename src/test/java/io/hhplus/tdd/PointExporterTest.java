@@ -0,0 +1,163 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import io.hhplus.tdd.point.balance.UserPointCache;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.export.ExportFormat;
+import io.hhplus.tdd.point.export.ExportResult;
+import io.hhplus.tdd.point.export.PointExporter;
+import io.hhplus.tdd.point.history.ColumnarHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 전체 잔액/내역 내보내기 테스트
+ */
+public class PointExporterTest {
+
+    private static final int USERS = 500;
+    private static final int HISTORIES_PER_USER = 3;
+
+    private PointHistoryRepository pointHistoryRepository;
+    private PointExporter pointExporter;
+
+    @BeforeEach
+    void setUp() {
+        UserPointRepository userPointRepository = new UserPointRepository(new PrimitiveBalanceStore(16, false), 0,
+                PointMetrics.simple());
+        pointHistoryRepository = new PointHistoryRepository(new ColumnarHistoryStore(), false, 1, 1, PointMetrics.simple());
+        for (long userId = 1; userId <= USERS; userId++) {
+            userPointRepository.save(userId, userId * 10);
+            for (int i = 0; i < HISTORIES_PER_USER; i++) {
+                pointHistoryRepository.record(userId, userId, TransactionType.CHARGE, i);
+            }
+        }
+        pointExporter = new PointExporter(userPointRepository, pointHistoryRepository);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointExporter.close();
+        pointHistoryRepository.close();
+    }
+
+    @Test
+    void 바이너리로_모든_잔액과_내역을_내보냄() throws IOException {
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        ExportResult result = pointExporter.export(out, ExportFormat.BINARY);
+
+        //then
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(0x50455850, in.readInt());
+        assertEquals(1, in.readInt());
+        long userPoints = 0;
+        long histories = 0;
+        long pointSum = 0;
+        while (in.available() > 0) {
+            byte kind = in.readByte();
+            if (kind == 1) {
+                in.readLong();
+                pointSum += in.readLong();
+                in.readLong();
+                userPoints++;
+            } else {
+                in.skipNBytes(8 * 3 + 1 + 8);
+                histories++;
+            }
+        }
+        assertEquals(USERS, userPoints);
+        assertEquals((long) USERS * HISTORIES_PER_USER, histories);
+        assertEquals(10L * USERS * (USERS + 1) / 2, pointSum);
+        assertEquals(USERS, result.userPoints());
+        assertEquals((long) USERS * HISTORIES_PER_USER, result.histories());
+        assertTrue(result.rowsPerSecond() > 0);
+    }
+
+    @Test
+    void NDJSON_으로_파일에_한_줄에_한_건씩_내보냄() throws IOException {
+        //given
+        Path path = Files.createTempFile("point", ".ndjson");
+
+        //when
+        ExportResult result = pointExporter.export(path, ExportFormat.NDJSON);
+
+        //then
+        long lines;
+        try (var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            lines = reader.lines().count();
+        }
+        assertEquals(result.userPoints() + result.histories(), lines);
+        assertEquals((long) USERS * (1 + HISTORIES_PER_USER), lines);
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    void 내보내기는_잔액_캐시를_읽거나_채우지_않음() throws IOException, InterruptedException {
+        //given
+        UserPointRepository cachedRepository = new UserPointRepository(new PrimitiveBalanceStore(16, false) {
+            @Override
+            public boolean cacheable() {
+                return true;
+            }
+        }, 10, PointMetrics.simple());
+        for (long userId = 1; userId <= USERS; userId++) {
+            cachedRepository.save(userId, userId);
+        }
+        cachedRepository.findById(USERS);
+        UserPointCache.Stats before = cachedRepository.cacheStats();
+        PointExporter exporter = new PointExporter(cachedRepository, pointHistoryRepository);
+
+        //when
+        ExportResult result = exporter.export(new ByteArrayOutputStream(), ExportFormat.BINARY);
+        exporter.close();
+
+        //then
+        assertEquals(USERS, result.userPoints());
+        assertEquals(before, cachedRepository.cacheStats());
+    }
+
+    @Test
+    void 기록_대기_중인_내역도_한_번씩만_내보냄() throws IOException, InterruptedException {
+        //given
+        PointHistoryRepository writeBehindRepository = new PointHistoryRepository(
+                new TableHistoryStore(new PointHistoryTable(), PointMetrics.simple()), true, 100, 10, PointMetrics.simple());
+        for (long userId = 1; userId <= 3; userId++) {
+            for (int i = 0; i < 3; i++) {
+                writeBehindRepository.record(userId, 1L, TransactionType.CHARGE, i);
+            }
+        }
+        PointExporter exporter = new PointExporter(new UserPointRepository(new PrimitiveBalanceStore(16, false), 0,
+                PointMetrics.simple()), writeBehindRepository);
+
+        //when
+        ExportResult result = exporter.export(new ByteArrayOutputStream(), ExportFormat.NDJSON);
+        writeBehindRepository.flush();
+        ExportResult flushed = exporter.export(new ByteArrayOutputStream(), ExportFormat.NDJSON);
+        exporter.close();
+        writeBehindRepository.close();
+
+        //then
+        assertEquals(9, result.histories());
+        assertEquals(9, flushed.histories());
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryIndex;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 사용자별 포인트 내역 인덱스 테스트
+ */
+public class PointHistoryIndexTest {
+
+    @Test
+    void 적재되지_않은_사용자는_null_반환() {
+        //given
+        PointHistoryIndex index = new PointHistoryIndex();
+
+        //when
+        index.append(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L));
+
+        //then
+        assertNull(index.findAllByUserId(1L));
+    }
+
+    @Test
+    void 적재된_사용자는_추가된_내역까지_조회() {
+        //given
+        PointHistoryIndex index = new PointHistoryIndex();
+        index.load(1L, List.of(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L)));
+
+        //when
+        for (long id = 2; id <= 20; id++) {
+            index.append(new PointHistory(id, 1L, 100L, TransactionType.USE, id));
+        }
+
+        //then
+        List<PointHistory> histories = index.findAllByUserId(1L);
+        assertEquals(20, histories.size());
+        assertEquals(20L, histories.get(19).id());
+    }
+
+    @Test
+    void 저장소를_거쳐_기록한_내역은_테이블을_스캔하지_않고_조회() {
+        //given
+        AtomicInteger scans = new AtomicInteger();
+        PointHistoryTable table = new PointHistoryTable() {
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                scans.incrementAndGet();
+                return super.selectAllByUserId(userId);
+            }
+        };
+        TableHistoryStore store = new TableHistoryStore(table, PointMetrics.simple());
+
+        //when
+        store.insert(1L, 100L, TransactionType.CHARGE, 1L, history -> { });
+        store.insert(2L, 200L, TransactionType.CHARGE, 2L, history -> { });
+        store.insert(1L, 50L, TransactionType.USE, 3L, history -> { });
+
+        //then
+        assertEquals(List.of(1L, 3L), store.findAllByUserId(1L).stream().map(PointHistory::id).toList());
+        assertEquals(List.of(2L), store.findAllByUserId(2L).stream().map(PointHistory::id).toList());
+        assertEquals(List.of(), store.findAllByUserId(3L));
+        assertEquals(0, scans.get());
+    }
+
+    @Test
+    void 테이블에_미리_있던_내역은_처음_조회할_때_한_번만_적재() {
+        //given
+        AtomicInteger scans = new AtomicInteger();
+        PointHistoryTable table = new PointHistoryTable() {
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                scans.incrementAndGet();
+                return super.selectAllByUserId(userId);
+            }
+        };
+        table.insert(1L, 100L, TransactionType.CHARGE, 1L);
+        TableHistoryStore store = new TableHistoryStore(table, PointMetrics.simple());
+        store.insert(1L, 50L, TransactionType.USE, 2L, history -> { });
+
+        //when
+        store.findAllByUserId(1L);
+        List<PointHistory> histories = store.findAllByUserId(1L);
+
+        //then
+        assertEquals(List.of(1L, 2L), histories.stream().map(PointHistory::id).toList());
+        assertEquals(1, scans.get());
+    }
+}
@@ -0,0 +1,168 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 포인트 내역 write-behind 저장소 테스트
+ */
+public class PointHistoryRepositoryTest {
+
+    private PointHistoryTable pointHistoryTable;
+
+    private PointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable, PointMetrics.simple()),
+                true, 100, 10, PointMetrics.simple());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryRepository.close();
+    }
+
+    @Test
+    void 기록_대기_중인_내역도_조회_가능() {
+        //given
+        long userId = 1L;
+
+        //when
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryRepository.record(userId, i * 100L, TransactionType.CHARGE, i);
+        }
+        List<PointHistory> histories = pointHistoryRepository.findAllByUserId(userId);
+
+        //then
+        assertEquals(5, histories.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals((i + 1) * 100L, histories.get(i).amount());
+        }
+    }
+
+    @Test
+    void flush_후_테이블에_모든_내역_기록() throws InterruptedException {
+        //given
+        pointHistoryRepository.record(1L, 1000L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.record(2L, 2000L, TransactionType.CHARGE, 2L);
+        pointHistoryRepository.record(1L, 500L, TransactionType.USE, 3L);
+
+        //when
+        pointHistoryRepository.flush();
+
+        //then
+        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(1L);
+        assertEquals(2, histories.size());
+        assertEquals(TransactionType.USE, histories.get(1).type());
+        assertTrue(histories.get(0).id() < histories.get(1).id());
+        assertEquals(histories, pointHistoryRepository.findAllByUserId(1L));
+    }
+
+    @Test
+    void 종료_시_대기_중인_내역_모두_기록() throws InterruptedException {
+        //given
+        for (int i = 0; i < 3; i++) {
+            pointHistoryRepository.record(1L, 100L, TransactionType.CHARGE, i);
+        }
+
+        //when
+        pointHistoryRepository.close();
+
+        //then
+        assertEquals(3, pointHistoryTable.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    void 기록_스레드가_인터럽트되어도_계속_기록() throws InterruptedException {
+        //given
+        List<Thread> drainers = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("point-history-writer"))
+                .toList();
+
+        //when
+        drainers.forEach(Thread::interrupt);
+        pointHistoryRepository.record(1L, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.flush();
+
+        //then
+        assertTrue(drainers.stream().allMatch(Thread::isAlive));
+        assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    void 커서_조회는_기록_대기_중인_내역이_기록된_뒤_조회() throws InterruptedException {
+        //given
+        TableHistoryStore slowStore = new TableHistoryStore(pointHistoryTable, PointMetrics.simple()) {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis,
+                                       Consumer<PointHistory> beforeVisible) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insert(userId, amount, type, updateMillis, beforeVisible);
+            }
+        };
+        PointHistoryRepository repository = new PointHistoryRepository(slowStore, true, 100, 10, PointMetrics.simple());
+        for (int i = 1; i <= 3; i++) {
+            repository.record(1L, i * 100L, TransactionType.CHARGE, i);
+        }
+
+        //when
+        List<PointHistory> firstPage = repository.findPageByUserId(1L, 0, 2);
+        List<PointHistory> nextPage = repository.findPageByUserId(1L, firstPage.get(1).id(), 2);
+        repository.close();
+
+        //then
+        assertEquals(2, firstPage.size());
+        assertEquals(List.of(100L, 200L), firstPage.stream().map(PointHistory::amount).toList());
+        assertEquals(1, nextPage.size());
+        assertEquals(300L, nextPage.get(0).amount());
+        assertTrue(nextPage.get(0).id() > firstPage.get(1).id());
+    }
+
+    @Test
+    void 기록에_실패하면_다시_시도하고_끝내_실패한_내역은_집계() throws InterruptedException {
+        //given
+        AtomicInteger failures = new AtomicInteger();
+        TableHistoryStore flakyStore = new TableHistoryStore(pointHistoryTable, PointMetrics.simple()) {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis,
+                                       Consumer<PointHistory> beforeVisible) {
+                // 사용자 1 은 두 번 실패한 뒤 성공, 사용자 2 는 항상 실패
+                if (userId == 2L || failures.incrementAndGet() <= 2) {
+                    throw new IllegalStateException("저장소 오류");
+                }
+                return super.insert(userId, amount, type, updateMillis, beforeVisible);
+            }
+        };
+        PointHistoryRepository repository = new PointHistoryRepository(flakyStore, true, 100, 10, PointMetrics.simple());
+
+        //when
+        repository.record(1L, 100L, TransactionType.CHARGE, 1L);
+        repository.record(2L, 200L, TransactionType.CHARGE, 2L);
+        repository.flush();
+        repository.close();
+
+        //then
+        assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+        assertEquals(1L, repository.failedWrites());
+    }
+}
@@ -0,0 +1,139 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.ColumnarHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 포인트 내역 시간 구간 조회 테스트
+ */
+public class PointHistoryTimeRangeTest {
+
+    @Test
+    void 사용자별_시간_구간_내역만_시간_순서로_조회() {
+        //given
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new ColumnarHistoryStore(),
+                false, 1, 1, PointMetrics.simple());
+        pointHistoryRepository.record(1L, 100L, TransactionType.CHARGE, 10L);
+        pointHistoryRepository.record(2L, 200L, TransactionType.CHARGE, 20L);
+        pointHistoryRepository.record(1L, 300L, TransactionType.CHARGE, 20L);
+        pointHistoryRepository.record(1L, 400L, TransactionType.USE, 20L);
+        pointHistoryRepository.record(1L, 500L, TransactionType.USE, 40L);
+
+        //when
+        List<PointHistory> histories = pointHistoryRepository.findByUserIdBetween(1L, 20L, 40L);
+
+        //then
+        assertEquals(List.of(300L, 400L), histories.stream().map(PointHistory::amount).toList());
+    }
+
+    @Test
+    void 시각이_거꾸로_기록된_내역도_시간_구간_조회에_포함() {
+        //given
+        List<PointHistoryRepository> repositories = List.of(
+                new PointHistoryRepository(new ColumnarHistoryStore(), false, 1, 1, PointMetrics.simple()),
+                new PointHistoryRepository(new PointHistoryTable()));
+        for (PointHistoryRepository pointHistoryRepository : repositories) {
+            // 시계가 뒤로 조정되거나 WAL 재생으로 이전 시각의 내역이 나중에 기록된 경우
+            pointHistoryRepository.record(1L, 100L, TransactionType.CHARGE, 10L);
+            pointHistoryRepository.record(1L, 200L, TransactionType.CHARGE, 30L);
+            pointHistoryRepository.record(1L, 300L, TransactionType.CHARGE, 20L);
+            pointHistoryRepository.record(1L, 400L, TransactionType.USE, 40L);
+            pointHistoryRepository.record(1L, 500L, TransactionType.USE, 25L);
+        }
+
+        //when
+        List<List<Long>> amounts = repositories.stream()
+                .map(pointHistoryRepository -> pointHistoryRepository.findByUserIdBetween(1L, 20L, 35L).stream()
+                        .map(PointHistory::amount)
+                        .toList())
+                .toList();
+
+        //then
+        assertEquals(List.of(200L, 300L, 500L), amounts.get(0));
+        assertEquals(List.of(200L, 300L, 500L), amounts.get(1));
+    }
+
+    @Test
+    void 테이블에_미리_있던_내역도_시간_구간_조회에_포함() {
+        //given
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        for (int i = 1; i <= 3; i++) {
+            pointHistoryTable.insert(1L, i * 100L, TransactionType.CHARGE, i * 10L);
+        }
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(pointHistoryTable);
+        pointHistoryRepository.record(1L, 400L, TransactionType.CHARGE, 40L);
+
+        //when
+        List<PointHistory> histories = pointHistoryRepository.findByUserIdBetween(1L, 20L, 50L);
+
+        //then
+        assertEquals(List.of(200L, 300L, 400L), histories.stream().map(PointHistory::amount).toList());
+    }
+
+    @Test
+    void 전체_사용자의_시간_구간_내역을_사용자별_시간_순서로_순회() {
+        //given
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new ColumnarHistoryStore(),
+                false, 1, 1, PointMetrics.simple());
+        for (long i = 1; i <= 100; i++) {
+            pointHistoryRepository.record(i % 7, i, TransactionType.CHARGE, 1000L + i);
+        }
+
+        //when
+        List<PointHistory> histories = new ArrayList<>();
+        pointHistoryRepository.forEachBetween(1090L, 1100L, histories::add);
+
+        //then
+        assertEquals(List.of(90L, 91L, 92L, 93L, 94L, 95L, 96L, 97L, 98L, 99L),
+                histories.stream().map(PointHistory::amount).sorted().toList());
+        for (int i = 1; i < histories.size(); i++) {
+            PointHistory previous = histories.get(i - 1);
+            PointHistory current = histories.get(i);
+            if (previous.userId() == current.userId()) {
+                assertTrue(previous.updateMillis() < current.updateMillis(), "histories = " + histories);
+            }
+        }
+    }
+
+    @Test
+    void 기록_대기_중인_내역도_시간_구간_조회에_포함() throws InterruptedException {
+        //given
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(
+                new TableHistoryStore(new PointHistoryTable(), PointMetrics.simple()), true, 100, 10, PointMetrics.simple());
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryRepository.record(i % 2, i * 100L, TransactionType.CHARGE, i * 10L);
+        }
+
+        //when
+        List<PointHistory> beforeFlush = pointHistoryRepository.findByUserIdBetween(1L, 20L, 60L);
+        List<PointHistory> allBeforeFlush = new ArrayList<>();
+        pointHistoryRepository.forEachBetween(20L, 50L, allBeforeFlush::add);
+        pointHistoryRepository.flush();
+        List<PointHistory> afterFlush = pointHistoryRepository.findByUserIdBetween(1L, 20L, 60L);
+        List<PointHistory> allAfterFlush = new ArrayList<>();
+        pointHistoryRepository.forEachBetween(20L, 50L, allAfterFlush::add);
+        pointHistoryRepository.close();
+
+        //then
+        assertEquals(List.of(300L, 500L), beforeFlush.stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(300L, 500L), afterFlush.stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(200L, 300L, 400L), amounts(allBeforeFlush));
+        assertEquals(List.of(200L, 300L, 400L), amounts(allAfterFlush));
+    }
+
+    private static List<Long> amounts(List<PointHistory> histories) {
+        return histories.stream().map(PointHistory::amount).sorted().toList();
+    }
+}
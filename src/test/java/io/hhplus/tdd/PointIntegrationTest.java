@@ -6,6 +6,7 @@ import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.PointService;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -14,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -22,6 +24,8 @@ import java.util.concurrent.Executors;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -42,6 +46,9 @@ public class PointIntegrationTest {
     @Autowired
     PointHistoryTable pointHistoryTable;
 
+    @Autowired
+    PointHistoryRepository pointHistoryRepository;
+
     //Controller 테스트
     @Test
     void PointController_테스트() throws Exception {
@@ -80,6 +87,7 @@ public class PointIntegrationTest {
         mockMvc.perform(get("/point/1/histories"))
                 .andExpect(status().isOk());
 
+        pointHistoryRepository.flush();
         List<PointHistory> pointHistoryTableList = pointHistoryTable.selectAllByUserId(1L);
         assertEquals(List.of(), pointHistoryTableList);
     }
@@ -101,9 +109,11 @@ public class PointIntegrationTest {
                 .andExpect(status().isOk());
 
         // then
+        pointService.flushBalances();
         UserPoint userPoint = userPointTable.selectById(userId);
         assertEquals(1000L, userPoint.point());
 
+        pointHistoryRepository.flush();
         List<PointHistory> pointHistoryList = pointHistoryTable.selectAllByUserId(userId);
         assertEquals(1, pointHistoryList.size());
         assertEquals(amount, pointHistoryList.get(0).amount());
@@ -134,7 +144,9 @@ public class PointIntegrationTest {
                 .andExpect(status().isOk());
 
         //then
+        pointService.flushBalances();
         UserPoint userPoint = userPointTable.selectById(userId);
+        pointHistoryRepository.flush();
         List<PointHistory> pointHistoryList = pointHistoryTable.selectAllByUserId(userId);
 
         assertEquals(500L, userPoint.point());
@@ -162,6 +174,7 @@ public class PointIntegrationTest {
                         .content(String.valueOf(10000L)))
                 .andExpect(status().isOk());
         //then
+        pointService.flushBalances();
         UserPoint userPoint = userPointTable.selectById(1L);
         assertEquals(10000L, userPoint.point());
 
@@ -179,9 +192,11 @@ public class PointIntegrationTest {
 
         latch.await(); // 모든 쓰레드가 종료될 때까지 대기
 
+        pointHistoryRepository.flush();
         List<PointHistory> list = pointHistoryTable.selectAllByUserId(1L);
         long expectedPoints = 10000L - (2000L * (list.size() - 1 ));
 
+        pointService.flushBalances();
         assertEquals(expectedPoints, userPointTable.selectById(1L).point());
 
     }
@@ -212,9 +227,146 @@ public class PointIntegrationTest {
         }
         latch.await(); // 모든 쓰레드가 종료될 때까지 대기
 
+        pointHistoryRepository.flush();
         List<PointHistory> list = pointHistoryTable.selectAllByUserId(1L);
         long expectedPoints = (2000L * (list.size()));
 
+        pointService.flushBalances();
         assertEquals(expectedPoints, userPointTable.selectById(1L).point());
     }
-}
\ No newline at end of file
+
+    /**
+     * 포인트 내역 커서 페이지 조회 통합 테스트
+     * @throws Exception
+     */
+    @Test
+    void 포인트_내역_커서_페이지_조회() throws Exception {
+        //given
+        long userId = 7L;
+        for (int i = 0; i < 3; i++) {
+            pointService.charge(userId, 100L);
+        }
+        pointHistoryRepository.flush();
+
+        long nextCursor = pointHistoryTable.selectAllByUserId(userId).get(1).id();
+
+        //when
+        //then
+        mockMvc.perform(get("/point/" + userId + "/histories").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+        mockMvc.perform(get("/point/" + userId + "/histories")
+                        .param("after", String.valueOf(nextCursor))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    /**
+     * 포인트 내역 스트리밍 조회 통합 테스트
+     * @throws Exception
+     */
+    @Test
+    void 포인트_내역_스트리밍_조회() throws Exception {
+        //given
+        long userId = 8L;
+        for (int i = 0; i < 3; i++) {
+            pointService.charge(userId, 100L);
+        }
+
+        //when
+        MvcResult result = mockMvc.perform(get("/point/" + userId + "/histories/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        //then
+        assertEquals(3, body.lines().count());
+    }
+
+    /**
+     * Idempotency-Key 재시도 통합 테스트
+     * @throws Exception
+     */
+    @Test
+    void 같은_Idempotency_Key_로_재시도하면_한_번만_충전() throws Exception {
+        //given
+        long userId = 9L;
+        long amount = 1000L;
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(patch("/point/" + userId + "/charge")
+                            .header("Idempotency-Key", "charge-9")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(String.valueOf(amount)))
+                    .andExpect(status().isOk());
+        }
+
+        //then
+        pointService.flushBalances();
+        assertEquals(amount, userPointTable.selectById(userId).point());
+        pointHistoryRepository.flush();
+        assertEquals(1, pointHistoryTable.selectAllByUserId(userId).size());
+        mockMvc.perform(patch("/point/" + userId + "/charge")
+                        .header("Idempotency-Key", "charge-9")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(2000L)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    /**
+     * 포인트 요약 조회 통합 테스트
+     * @throws Exception
+     */
+    @Test
+    void 포인트_요약_조회() throws Exception {
+        //given
+        long userId = 10L;
+        pointService.charge(userId, 1000L);
+        pointService.use(userId, 300L);
+
+        //when
+        //then
+        mockMvc.perform(get("/point/" + userId + "/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCharged").value(1000))
+                .andExpect(jsonPath("$.totalUsed").value(300))
+                .andExpect(jsonPath("$.transactionCount").value(2));
+    }
+
+    /**
+     * 포인트 내역 시간 구간 조회 통합 테스트
+     * @throws Exception
+     */
+    @Test
+    void 포인트_내역_시간_구간_조회() throws Exception {
+        //given
+        long userId = 11L;
+        pointService.charge(userId, 100L);
+        long from = System.currentTimeMillis() + 1;
+        Thread.sleep(5);
+        pointService.charge(userId, 200L);
+        pointService.charge(userId, 300L);
+
+        //when
+        //then
+        mockMvc.perform(get("/point/" + userId + "/histories")
+                        .param("from", String.valueOf(from))
+                        .param("to", String.valueOf(Long.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].amount").value(200));
+        mockMvc.perform(get("/point/" + userId + "/histories")
+                        .param("from", "10")
+                        .param("to", "5"))
+                .andExpect(status().isBadRequest());
+    }
+}
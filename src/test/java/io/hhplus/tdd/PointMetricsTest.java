@@ -0,0 +1,128 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointRejectReason;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 포인트 처리 지표 테스트
+ */
+public class PointMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    private PointMetrics pointMetrics;
+
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        pointMetrics = new PointMetrics(registry);
+        pointService = new PointService(
+                new UserPointRepository(new UserPointTableBalanceStore(new UserPointTable(), false, pointMetrics), 100, pointMetrics),
+                new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable(), pointMetrics), false, 1, 1, pointMetrics),
+                new PointValidator(), new UserLockManager(), new PointExecutor(), pointMetrics,
+                PointWriteAheadLog.disabled());
+    }
+
+    @Test
+    void 충전_시_락_대기_시간과_테이블_호출_시간_기록() {
+        //when
+        pointService.charge(1L, 1000L);
+
+        //then
+        assertEquals(1L, registry.get("point.lock.wait").timer().count());
+        assertEquals(1L, registry.get("point.table.latency")
+                .tag("table", "user_point").tag("operation", "insertOrUpdate").timer().count());
+        assertEquals(1L, registry.get("point.table.latency")
+                .tag("table", "point_history").tag("operation", "insert").timer().count());
+    }
+
+    @Test
+    void 테이블_락_대기_시간은_테이블_호출_시간과_따로_기록() throws Exception {
+        //given
+        CountDownLatch tableEntered = new CountDownLatch(1);
+        CountDownLatch releaseTable = new CountDownLatch(1);
+        UserPointTableBalanceStore balanceStore = new UserPointTableBalanceStore(new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                if (id == 1L) {
+                    tableEntered.countDown();
+                    await(releaseTable);
+                }
+                return new UserPoint(id, amount, System.currentTimeMillis());
+            }
+        }, false, pointMetrics);
+        Thread first = new Thread(() -> balanceStore.save(1L, 100L));
+        first.start();
+        tableEntered.await();
+
+        //when
+        Thread second = new Thread(() -> balanceStore.save(2L, 200L));
+        second.start();
+        Thread.sleep(200); // 두 번째 저장이 테이블 락을 기다리는 동안
+        releaseTable.countDown();
+        first.join();
+        second.join();
+
+        //then
+        Timer lockWait = registry.get("point.table.lock.wait")
+                .tag("table", "user_point").tag("operation", "insertOrUpdate").timer();
+        Timer latency = registry.get("point.table.latency")
+                .tag("table", "user_point").tag("operation", "insertOrUpdate").timer();
+        assertEquals(2L, lockWait.count());
+        assertEquals(2L, latency.count());
+        assertTrue(lockWait.max(TimeUnit.MILLISECONDS) >= 150, "lock wait = " + lockWait.max(TimeUnit.MILLISECONDS));
+        // 두 번째 저장의 호출 시간에는 락을 기다린 시간이 들어가지 않으므로, 느린 호출은 첫 번째 저장 하나입니다.
+        assertTrue(latency.totalTime(TimeUnit.MILLISECONDS) < latency.max(TimeUnit.MILLISECONDS) * 1.5,
+                "latency total = " + latency.totalTime(TimeUnit.MILLISECONDS) + ", max = " + latency.max(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void 유효성_검사_거절_사유별_집계() {
+        //when
+        assertThrows(IllegalArgumentException.class, () -> pointService.use(1L, 1000L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.charge(1L, 0L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.charge(1L, 20000L));
+
+        //then
+        assertEquals(1.0, rejected(PointRejectReason.INSUFFICIENT_POINT));
+        assertEquals(1.0, rejected(PointRejectReason.INVALID_CHARGE_AMOUNT));
+        assertEquals(1.0, rejected(PointRejectReason.MAX_BALANCE_EXCEEDED));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rejected(PointRejectReason reason) {
+        return registry.get("point.validation.rejected").tag("reason", reason.name()).counter().count();
+    }
+}
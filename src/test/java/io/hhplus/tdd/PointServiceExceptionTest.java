@@ -2,8 +2,14 @@ package io.hhplus.tdd;
 
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
 import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.validator.PointRejectReason;
+import io.hhplus.tdd.point.validator.PointValidationException;
 import io.hhplus.tdd.point.validator.PointValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +17,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PointServiceExceptionTest {
@@ -70,6 +86,21 @@ public class PointServiceExceptionTest {
             pointService.use(ID, invalidAmount);
         });
     }
+    @Test
+    void 거절_예외는_사유별로_미리_만든_스택_트레이스_없는_인스턴스() {
+        //given
+        when(userPointTable.selectById(ID)).thenReturn(new UserPoint(ID, 1000L, 123L));
+
+        //when
+        PointValidationException first = assertThrows(PointValidationException.class, () -> pointService.use(ID, 2000L));
+        PointValidationException second = assertThrows(PointValidationException.class, () -> pointService.use(ID, 3000L));
+
+        //then
+        assertSame(first, second);
+        assertEquals(PointRejectReason.INSUFFICIENT_POINT, first.reason());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
     @Test
     void 사용자_없을_시_예외_발생() {
         //given
@@ -93,4 +124,48 @@ public class PointServiceExceptionTest {
         });
     }
 
+    @Test
+    void 일괄_처리_요청_수가_한도를_넘으면_처리하지_않고_예외_발생() {
+        //given
+        PointService limited = new PointService(userPointTable, pointHistoryTable, new PointValidator(2));
+        List<PointOperation> operations = List.of(
+                new PointOperation(ID, TransactionType.CHARGE, 100L),
+                new PointOperation(ID, TransactionType.CHARGE, 100L),
+                new PointOperation(ID, TransactionType.CHARGE, 100L)
+        );
+
+        //when
+        PointValidationException exception = assertThrows(PointValidationException.class,
+                () -> limited.applyBatch(operations));
+
+        //then
+        assertEquals(PointRejectReason.INVALID_BATCH_SIZE, exception.reason());
+        verify(userPointTable, never()).selectById(anyLong());
+    }
+
+    @Test
+    void 일괄_처리_중_저장에_실패한_사용자의_요청만_실패로_응답() {
+        //given
+        when(userPointTable.selectById(eq(1L))).thenReturn(new UserPoint(1L, 1000L, 123L));
+        when(userPointTable.selectById(eq(2L))).thenReturn(new UserPoint(2L, 0L, 123L));
+        when(userPointTable.insertOrUpdate(eq(1L), anyLong())).thenThrow(new IllegalStateException("저장소 오류"));
+        when(userPointTable.insertOrUpdate(eq(2L), anyLong())).thenReturn(new UserPoint(2L, 500L, 123L));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong())).thenReturn(
+                new PointHistory(1L, 2L, 500L, TransactionType.CHARGE, 123L));
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, TransactionType.USE, 300L),
+                new PointOperation(2L, TransactionType.CHARGE, 500L)
+        );
+
+        //when
+        List<PointOperationResult> results = pointService.applyBatch(operations);
+
+        //then
+        assertFalse(results.get(0).success());
+        assertEquals(1000L, results.get(0).point());
+        assertEquals("저장소 오류", results.get(0).message());
+        assertTrue(results.get(1).success());
+        assertEquals(500L, results.get(1).point());
+        verify(pointHistoryTable, never()).insert(eq(1L), anyLong(), any(TransactionType.class), anyLong());
+    }
 }
@@ -3,6 +3,8 @@ package io.hhplus.tdd;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
 import io.hhplus.tdd.point.PointService;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
@@ -14,8 +16,11 @@ import org.mockito.Mock;
 import java.util.List;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -149,4 +154,43 @@ public class PointServiceTest {
         verify(userPointTable).insertOrUpdate(eq(ID), eq(1000L));
         verify(pointHistoryTable).insert(eq(ID), eq(1000L), eq(TransactionType.USE), anyLong());
     }
+
+    /**
+     * 여러 건의 포인트 충전/사용을 한 번에 처리하는 기능 테스트
+     */
+    @Test
+    void 사용자_포인트_일괄_처리_시_잔액_한_번만_저장() {
+
+        // given
+        when(userPointTable.selectById(eq(ID))).thenReturn(
+                new UserPoint(ID, 1000L, 123L));
+
+        when(userPointTable.insertOrUpdate(eq(ID), eq(1500L))).thenReturn(
+                new UserPoint(ID, 1500L, 123L));
+
+        when(pointHistoryTable.insert(eq(ID), anyLong(), any(TransactionType.class), anyLong())).thenReturn(
+                new PointHistory(1L, ID, 1000L, TransactionType.CHARGE, 123L));
+
+        List<PointOperation> operations = List.of(
+                new PointOperation(ID, TransactionType.CHARGE, 1000L),
+                new PointOperation(ID, TransactionType.USE, 3000L),
+                new PointOperation(ID, TransactionType.USE, 500L)
+        );
+
+        // when
+        List<PointOperationResult> results = pointService.applyBatch(operations);
+
+        // then
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).success());
+        assertEquals(2000L, results.get(0).point());
+        assertFalse(results.get(1).success());
+        assertEquals(2000L, results.get(1).point());
+        assertTrue(results.get(2).success());
+        assertEquals(1500L, results.get(2).point());
+
+        verify(userPointTable).selectById(eq(ID));
+        verify(userPointTable).insertOrUpdate(eq(ID), eq(1500L));
+        verify(pointHistoryTable, times(2)).insert(eq(ID), anyLong(), any(TransactionType.class), anyLong());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.snapshot.PointSnapshot;
+import io.hhplus.tdd.point.snapshot.PointSnapshotStore;
+import io.hhplus.tdd.point.snapshot.PointSnapshotter;
+import io.hhplus.tdd.point.wal.PointWalRecovery;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.hhplus.tdd.point.wal.WalRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 포인트 잔액 스냅샷 테스트
+ */
+public class PointSnapshotTest {
+
+    private Path directory;
+
+    private PointSnapshotStore pointSnapshotStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-snapshot");
+        pointSnapshotStore = new PointSnapshotStore(directory.resolve("snapshots").toString(), 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void 가장_최근_스냅샷_조회() throws IOException {
+        //given
+        pointSnapshotStore.save(new PointSnapshot(10L, List.of(new UserPoint(1L, 100L, 1L))));
+        pointSnapshotStore.save(new PointSnapshot(20L, List.of(new UserPoint(1L, 200L, 2L), new UserPoint(2L, 50L, 2L))));
+        pointSnapshotStore.save(new PointSnapshot(30L, List.of(new UserPoint(1L, 300L, 3L))));
+
+        //when
+        PointSnapshot snapshot = pointSnapshotStore.loadLatest();
+
+        //then
+        assertEquals(new PointSnapshot(30L, List.of(new UserPoint(1L, 300L, 3L))), snapshot);
+        try (Stream<Path> files = Files.list(directory.resolve("snapshots"))) {
+            assertEquals(2L, files.count());
+        }
+    }
+
+    @Test
+    void 스냅샷_이후_로그_정리() throws Exception {
+        //given
+        PointWriteAheadLog wal = new PointWriteAheadLog(true, directory.resolve("point.wal").toString(), 1, 1024);
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(wal, pointSnapshotStore, true, 60_000, 1);
+        pointSnapshotter.start(0, Map.of());
+        wal.append(1L, 1000L, TransactionType.CHARGE, 1L);
+        wal.append(2L, 500L, TransactionType.CHARGE, 2L);
+        wal.append(1L, 300L, TransactionType.USE, 3L);
+
+        //when
+        PointSnapshot snapshot = pointSnapshotter.snapshot();
+
+        //then
+        assertEquals(3L, snapshot.sequence());
+        assertEquals(3L, wal.baseSequence());
+        assertEquals(snapshot, pointSnapshotStore.loadLatest());
+        assertEquals(700L, snapshot.userPoints().stream().filter(userPoint -> userPoint.id() == 1L).findFirst().orElseThrow().point());
+        pointSnapshotter.close();
+        wal.close();
+    }
+
+    @Test
+    void 로그를_정리한_뒤_다시_기동해도_정리_전_내역까지_복구() throws Exception {
+        //given
+        PointWriteAheadLog wal = openWal();
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(wal, pointSnapshotStore, true, 60_000, 1);
+        pointSnapshotter.start(0, Map.of());
+        wal.append(1L, 1000L, TransactionType.CHARGE, 1L);
+        wal.append(1L, 300L, TransactionType.USE, 2L);
+        pointSnapshotter.snapshot();
+        wal.awaitDurable(wal.append(1L, 200L, TransactionType.CHARGE, 3L));
+        pointSnapshotter.close();
+        wal.close();
+
+        //when
+        UserPointTable userPointTable = new UserPointTable();
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointWriteAheadLog reopened = openWal();
+        long records = recover(reopened, userPointTable, pointHistoryTable);
+        reopened.close();
+
+        //then
+        assertEquals(0L, records);
+        assertEquals(900L, userPointTable.selectById(1L).point());
+        assertEquals(List.of(1000L, 300L, 200L), pointHistoryTable.selectAllByUserId(1L).stream()
+                .sorted(Comparator.comparingLong(PointHistory::updateMillis))
+                .map(PointHistory::amount)
+                .toList());
+    }
+
+    @Test
+    void 기동_시에는_스냅샷_이전의_보관_파일_레코드를_읽지_않음() throws Exception {
+        //given
+        PointWriteAheadLog wal = openWal();
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(wal, pointSnapshotStore, true, 60_000, 1);
+        pointSnapshotter.start(0, Map.of());
+        for (int i = 1; i <= 5; i++) {
+            wal.append(1L, 100L, TransactionType.CHARGE, i);
+        }
+        pointSnapshotter.close();
+        wal.awaitDurable(wal.append(1L, 200L, TransactionType.USE, 6L));
+        wal.close();
+
+        //when
+        Thread caller = Thread.currentThread();
+        List<Long> bootSequences = new CopyOnWriteArrayList<>();
+        PointWriteAheadLog reopened = new PointWriteAheadLog(true, directory.resolve("point.wal").toString(), 1, 1024) {
+            @Override
+            public long replay(long fromSequence, long toSequence, Consumer<WalRecord> action) {
+                return super.replay(fromSequence, toSequence, record -> {
+                    if (Thread.currentThread() == caller) {
+                        bootSequences.add(record.sequence());
+                    }
+                    action.accept(record);
+                });
+            }
+        };
+        UserPointTable userPointTable = new UserPointTable();
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        long records = recover(reopened, userPointTable, pointHistoryTable);
+        reopened.close();
+
+        //then
+        assertEquals(1L, records);
+        assertEquals(List.of(6L), bootSequences);
+        assertEquals(300L, userPointTable.selectById(1L).point());
+        assertEquals(6, pointHistoryTable.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    void 최신_스냅샷이_손상되면_이전_스냅샷과_보관_파일로_복구() throws Exception {
+        //given
+        PointWriteAheadLog wal = openWal();
+        PointSnapshotter pointSnapshotter = new PointSnapshotter(wal, pointSnapshotStore, true, 60_000, 1);
+        pointSnapshotter.start(0, Map.of());
+        wal.append(1L, 1000L, TransactionType.CHARGE, 1L);
+        pointSnapshotter.snapshot();
+        wal.append(1L, 300L, TransactionType.USE, 2L);
+        wal.append(2L, 500L, TransactionType.CHARGE, 3L);
+        pointSnapshotter.snapshot();
+        wal.awaitDurable(wal.append(2L, 100L, TransactionType.USE, 4L));
+        wal.close();
+        Path latest;
+        try (Stream<Path> files = Files.list(directory.resolve("snapshots"))) {
+            latest = files.max(Comparator.naturalOrder()).orElseThrow();
+        }
+        Files.write(latest, new byte[]{1, 2, 3});
+
+        //when
+        UserPointTable userPointTable = new UserPointTable();
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointWriteAheadLog reopened = openWal();
+        recover(reopened, userPointTable, pointHistoryTable);
+        reopened.close();
+
+        //then
+        assertEquals(1L, pointSnapshotStore.loadLatest().sequence());
+        assertEquals(3L, reopened.baseSequence());
+        assertEquals(700L, userPointTable.selectById(1L).point());
+        assertEquals(400L, userPointTable.selectById(2L).point());
+        assertEquals(2, pointHistoryTable.selectAllByUserId(2L).size());
+    }
+
+    private PointWriteAheadLog openWal() {
+        return new PointWriteAheadLog(true, directory.resolve("point.wal").toString(), 1, 1024);
+    }
+
+    // 스냅샷을 주기적으로 만들지 않는 상태로 복구하고, 보관 파일의 내역 복구까지 기다립니다.
+    private long recover(PointWriteAheadLog wal, UserPointTable userPointTable, PointHistoryTable pointHistoryTable)
+            throws InterruptedException {
+        PointWalRecovery pointWalRecovery = new PointWalRecovery(wal, pointSnapshotStore,
+                new PointSnapshotter(wal, pointSnapshotStore, false, 60_000, 1),
+                new UserPointRepository(userPointTable), new PointHistoryRepository(pointHistoryTable));
+        long records = pointWalRecovery.recover();
+        pointWalRecovery.awaitHistoryRecovery();
+        return records;
+    }
+}
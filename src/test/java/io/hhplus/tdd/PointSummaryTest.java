@@ -0,0 +1,98 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.history.TableHistoryStore;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 사용자별 포인트 요약 테스트
+ */
+public class PointSummaryTest {
+
+    private final AtomicInteger scans = new AtomicInteger();
+
+    private PointHistoryTable pointHistoryTable;
+
+    private PointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        TableHistoryStore historyStore = new TableHistoryStore(pointHistoryTable, PointMetrics.simple()) {
+            @Override
+            public void forEachByUserId(long userId, long afterId, Consumer<PointHistory> action) {
+                scans.incrementAndGet();
+                super.forEachByUserId(userId, afterId, action);
+            }
+        };
+        pointHistoryRepository = new PointHistoryRepository(historyStore, true, 100, 10, PointMetrics.simple());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryRepository.close();
+    }
+
+    @Test
+    void 처음_조회할_때_기존_내역으로_계산하고_이후에는_기록마다_갱신() {
+        //given
+        pointHistoryTable.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+        pointHistoryTable.insert(1L, 300L, TransactionType.USE, 20L);
+        PointSummary loaded = pointHistoryRepository.findSummaryByUserId(1L);
+
+        //when
+        pointHistoryRepository.record(1L, 500L, TransactionType.CHARGE, 30L);
+        pointHistoryRepository.record(1L, 200L, TransactionType.USE, 40L);
+        PointSummary summary = pointHistoryRepository.findSummaryByUserId(1L);
+
+        //then
+        assertEquals(new PointSummary(1L, 1000L, 300L, 2, 20L), loaded);
+        assertEquals(new PointSummary(1L, 1500L, 500L, 4, 40L), summary);
+        assertEquals(1, scans.get());
+    }
+
+    @Test
+    void 내역이_없는_사용자는_빈_요약() {
+        //when
+        PointSummary summary = pointHistoryRepository.findSummaryByUserId(2L);
+
+        //then
+        assertEquals(PointSummary.empty(2L), summary);
+    }
+
+    @Test
+    void 기록_중에_다시_계산해도_내역이_빠지거나_중복되지_않음() throws Exception {
+        //given
+        int records = 50;
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= records; i++) {
+                pointHistoryRepository.record(1L, 1L, TransactionType.CHARGE, i);
+            }
+        });
+
+        //when
+        writer.start();
+        while (writer.isAlive()) {
+            pointHistoryRepository.rebuildSummary(1L);
+        }
+        writer.join();
+        PointSummary summary = pointHistoryRepository.findSummaryByUserId(1L);
+        pointHistoryRepository.flush();
+
+        //then
+        assertEquals(new PointSummary(1L, records, 0, records, records), summary);
+        assertEquals(summary, pointHistoryRepository.rebuildSummary(1L));
+    }
+}
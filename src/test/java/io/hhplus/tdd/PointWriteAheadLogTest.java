@@ -0,0 +1,190 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.hhplus.tdd.point.wal.WalRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 포인트 변경 write-ahead log 테스트
+ */
+public class PointWriteAheadLogTest {
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("point", ".wal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    void 다시_열면_기록한_순서대로_재생() throws Exception {
+        //given
+        PointWriteAheadLog wal = open();
+        wal.append(1L, 1000L, TransactionType.CHARGE, 10L);
+        wal.append(2L, 2000L, TransactionType.CHARGE, 20L);
+        long sequence = wal.append(1L, 300L, TransactionType.USE, 30L);
+        wal.awaitDurable(sequence);
+        wal.close();
+
+        //when
+        PointWriteAheadLog reopened = open();
+        List<WalRecord> records = new ArrayList<>();
+        reopened.replay(0, records::add);
+        reopened.close();
+
+        //then
+        assertEquals(List.of(
+                new WalRecord(1L, 1L, 1000L, TransactionType.CHARGE, 10L),
+                new WalRecord(2L, 2L, 2000L, TransactionType.CHARGE, 20L),
+                new WalRecord(3L, 1L, 300L, TransactionType.USE, 30L)
+        ), records);
+    }
+
+    @Test
+    void 쓰다_만_레코드는_버리고_이어서_기록() throws Exception {
+        //given
+        PointWriteAheadLog wal = open();
+        wal.append(1L, 1000L, TransactionType.CHARGE, 10L);
+        wal.awaitDurable(wal.append(1L, 500L, TransactionType.USE, 20L));
+        wal.close();
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            // 두 번째 레코드의 금액 일부만 바뀐 채로 중단된 상황 (헤더 32 byte 다음부터 레코드)
+            file.seek(32 + 32 + 8);
+            file.writeByte(0x7f);
+        }
+
+        //when
+        PointWriteAheadLog reopened = open();
+        long sequence = reopened.append(1L, 200L, TransactionType.USE, 30L);
+        List<WalRecord> records = new ArrayList<>();
+        reopened.replay(0, records::add);
+        reopened.close();
+
+        //then
+        assertEquals(2L, sequence);
+        assertEquals(2, records.size());
+        assertEquals(new WalRecord(2L, 1L, 200L, TransactionType.USE, 30L), records.get(1));
+    }
+
+    @Test
+    void 정리한_구간은_보관_파일로_옮기고_재생할_때_이어서_읽음() throws Exception {
+        //given
+        PointWriteAheadLog wal = open();
+        for (int i = 1; i <= 5; i++) {
+            wal.append(1L, i * 100L, TransactionType.CHARGE, i);
+        }
+
+        //when
+        Path archive = wal.compact(3);
+        wal.awaitDurable(wal.append(1L, 600L, TransactionType.CHARGE, 6L));
+        wal.close();
+        PointWriteAheadLog reopened = open();
+        List<WalRecord> records = new ArrayList<>();
+        reopened.replay(0, records::add);
+        List<WalRecord> afterCompaction = new ArrayList<>();
+        reopened.replay(3, afterCompaction::add);
+        List<WalRecord> archived = new ArrayList<>();
+        reopened.replay(1, 2, archived::add);
+        long firstSequence = reopened.firstSequence();
+        long archiveSize = Files.size(archive);
+        Files.delete(archive);
+        long firstSequenceWithoutArchive = reopened.firstSequence();
+        assertThrows(IllegalStateException.class, () -> reopened.replay(0, record -> { }));
+        reopened.close();
+
+        //then
+        assertEquals(3L, reopened.baseSequence());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), records.stream().map(WalRecord::sequence).toList());
+        assertEquals(List.of(400L, 500L, 600L), afterCompaction.stream().map(WalRecord::amount).toList());
+        assertEquals(List.of(2L), archived.stream().map(WalRecord::sequence).toList());
+        assertEquals(0L, firstSequence);
+        assertEquals(3L, firstSequenceWithoutArchive);
+        assertEquals(32L + 3 * 32L, archiveSize);
+    }
+
+    @Test
+    void 여러_건은_매핑_영역이_모자라도_한_번에_기록() throws Exception {
+        //given
+        PointWriteAheadLog wal = new PointWriteAheadLog(true, path.toString(), 1, 64);
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 100L),
+                new PointOperation(1L, TransactionType.CHARGE, 200L),
+                new PointOperation(1L, TransactionType.USE, 50L),
+                new PointOperation(1L, TransactionType.CHARGE, 400L),
+                new PointOperation(1L, TransactionType.USE, 150L)
+        );
+
+        //when
+        wal.append(1L, 10L, TransactionType.CHARGE, 1L);
+        long sequence = wal.append(1L, operations, 2L);
+        wal.awaitDurable(sequence);
+        List<WalRecord> records = new ArrayList<>();
+        wal.replay(0, records::add);
+        wal.close();
+
+        //then
+        assertEquals(6L, sequence);
+        assertEquals(List.of(10L, 100L, 200L, 50L, 400L, 150L), records.stream().map(WalRecord::amount).toList());
+    }
+
+    @Test
+    void 잔액_저장에_실패한_변경은_로그에_남지_않음() throws Exception {
+        //given
+        UserPointTable userPointTable = new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                if (id == 1L) {
+                    throw new IllegalStateException("저장소 오류");
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        PointWriteAheadLog wal = open();
+        PointService pointService = new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(new PointHistoryTable()), new PointValidator(), new UserLockManager(),
+                new PointExecutor(), PointMetrics.simple(), wal);
+
+        //when
+        assertThrows(IllegalStateException.class, () -> pointService.charge(1L, 1000L));
+        pointService.charge(2L, 500L);
+        List<WalRecord> records = new ArrayList<>();
+        wal.replay(0, records::add);
+        wal.close();
+
+        //then
+        assertEquals(List.of(2L), records.stream().map(WalRecord::userId).toList());
+    }
+
+    private PointWriteAheadLog open() {
+        return new PointWriteAheadLog(true, path.toString(), 1, 1024);
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.PrimitiveBalanceStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 박싱 없는 잔액 저장소 테스트
+ */
+public class PrimitiveBalanceStoreTest {
+
+    @Test
+    void 저장된_적_없는_사용자는_0포인트() {
+        //given
+        PrimitiveBalanceStore store = new PrimitiveBalanceStore(16, false);
+
+        //when
+        UserPoint userPoint = store.findById(1L);
+
+        //then
+        assertEquals(1L, userPoint.id());
+        assertEquals(0L, userPoint.point());
+    }
+
+    @Test
+    void 초기_크기를_넘어도_모든_잔액_유지() {
+        //given
+        PrimitiveBalanceStore store = new PrimitiveBalanceStore(16, true);
+
+        //when
+        for (long userId = 0; userId < 10_000; userId++) {
+            store.save(userId, userId * 10);
+        }
+        store.save(5L, 1L);
+
+        //then
+        assertEquals(10_000, store.size());
+        assertEquals(1L, store.findById(5L).point());
+        for (long userId = 6; userId < 10_000; userId++) {
+            assertEquals(userId * 10, store.findById(userId).point());
+        }
+    }
+
+    @Test
+    void 동시에_저장하고_조회해도_저장된_값만_조회() throws Exception {
+        //given
+        PrimitiveBalanceStore store = new PrimitiveBalanceStore(16, false);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            long base = thread * 100_000L;
+            futures.add(executorService.submit(() -> {
+                for (long i = 0; i < 5_000; i++) {
+                    store.save(base + i, i);
+                    UserPoint userPoint = store.findById(base + i / 2);
+                    assertEquals(i / 2, userPoint.point());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        //then
+        assertEquals(40_000, store.size());
+    }
+}
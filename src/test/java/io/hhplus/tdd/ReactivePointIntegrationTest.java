@@ -0,0 +1,73 @@
+package io.hhplus.tdd;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * 리액티브 /point API 통합 테스트 (spring.main.web-application-type: reactive)
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+public class ReactivePointIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void 포인트_충전_후_조회() {
+        //when
+        webTestClient.patch().uri("/point/1/charge")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(1000L)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.point").isEqualTo(1000);
+
+        //then
+        webTestClient.get().uri("/point/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.point").isEqualTo(1000);
+    }
+
+    @Test
+    void 포인트_충전_사용_내역_조회() {
+        //given
+        webTestClient.patch().uri("/point/2/charge")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(1000L)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.patch().uri("/point/2/use")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(300L)
+                .exchange()
+                .expectStatus().isOk();
+
+        //when
+        //then
+        webTestClient.get().uri("/point/2/histories")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].type").isEqualTo("CHARGE")
+                .jsonPath("$[1].type").isEqualTo("USE");
+    }
+
+    @Test
+    void 잔액보다_많이_사용하면_서블릿_API_와_같은_오류_응답() {
+        //when
+        //then
+        webTestClient.patch().uri("/point/3/use")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(1000L)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("INVALID_AMOUNT");
+    }
+}
@@ -0,0 +1,154 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.execution.PointExecutionMode;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.execution.UserMailboxExecutor;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자별 메일박스 실행 테스트
+ */
+public class UserMailboxExecutorTest {
+
+    private final UserMailboxExecutor userMailboxExecutor = new UserMailboxExecutor();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        userMailboxExecutor.shutdown();
+    }
+
+    @Test
+    void 동일_사용자의_작업은_요청_순서대로_처리() throws Exception {
+        //given
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            futures.add(userMailboxExecutor.submit(1L, () -> {
+                processed.add(sequence);
+                return sequence;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        // 마지막 결과를 넘긴 뒤에 정리하므로, 정리가 끝날 때까지 기다립니다.
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (userMailboxExecutor.size() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        //then
+        assertEquals(IntStream.range(0, 100).boxed().toList(), processed);
+        assertEquals(0, userMailboxExecutor.size());
+    }
+
+    @Test
+    void 작업_예외는_해당_요청의_future_로_전달() {
+        //when
+        CompletableFuture<Object> future = userMailboxExecutor.submit(1L, () -> {
+            throw new IllegalArgumentException("포인트가 부족합니다.");
+        });
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void 종료한_뒤_받은_작업은_실패한_future_로_반환() throws Exception {
+        //given
+        CompletableFuture<Integer> accepted = userMailboxExecutor.submit(1L, () -> 1);
+        userMailboxExecutor.shutdown();
+
+        //when
+        CompletableFuture<Integer> rejected = userMailboxExecutor.submit(1L, () -> 2);
+        CompletableFuture<Integer> rejectedNewUser = userMailboxExecutor.submit(2L, () -> 3);
+
+        //then
+        assertEquals(1, accepted.get(5, TimeUnit.SECONDS).intValue());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        e = assertThrows(ExecutionException.class, () -> rejectedNewUser.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    void 작업에서_Error_가_발생해도_다음_작업은_처리() throws Exception {
+        //when
+        CompletableFuture<Object> failed = userMailboxExecutor.submit(1L, () -> {
+            throw new AssertionError("복구할 수 없는 오류");
+        });
+        CompletableFuture<Integer> next = userMailboxExecutor.submit(1L, () -> 1);
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertTrue(e.getCause() instanceof AssertionError);
+        assertEquals(1, next.get(5, TimeUnit.SECONDS).intValue());
+    }
+
+    @Test
+    void 워커보다_많은_사용자의_작업도_모두_처리() throws Exception {
+        //given
+        UserMailboxExecutor executor = new UserMailboxExecutor(Executors.newFixedThreadPool(2));
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+
+        //when
+        for (long userId = 1; userId <= 100; userId++) {
+            for (int i = 0; i < 100; i++) {
+                long id = userId;
+                futures.add(executor.submit(userId, () -> id));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertEquals(0, executor.size());
+    }
+
+    @Test
+    void 메일박스_모드로_충전_후_사용() throws Exception {
+        //given
+        PointExecutor pointExecutor = new PointExecutor(PointExecutionMode.MAILBOX);
+        UserPointTable userPointTable = new UserPointTable();
+        PointService pointService = new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(new PointHistoryTable()), new PointValidator(), new UserLockManager(),
+                pointExecutor, PointMetrics.simple(), PointWriteAheadLog.disabled());
+
+        //when
+        CompletableFuture<UserPoint> charge = pointService.chargeAsync(1L, 1000L);
+        CompletableFuture<UserPoint> use = pointService.useAsync(1L, 300L);
+        CompletableFuture.allOf(charge, use).get();
+        pointExecutor.shutdown();
+
+        //then
+        assertEquals(1000L, charge.get().point());
+        assertEquals(700L, userPointTable.selectById(1L).point());
+    }
+}
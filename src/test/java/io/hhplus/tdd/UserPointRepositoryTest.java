@@ -0,0 +1,119 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointCache;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.balance.UserPointTableBalanceStore;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 사용자 포인트 캐시 저장소 테스트
+ */
+public class UserPointRepositoryTest {
+
+    private UserPointTable userPointTable;
+
+    private UserPointRepository userPointRepository;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        userPointRepository = new UserPointRepository(new UserPointTableBalanceStore(userPointTable), 2, PointMetrics.simple());
+    }
+
+    @Test
+    void 두_번째_조회부터_캐시_적중() {
+        //given
+        userPointTable.insertOrUpdate(1L, 1000L);
+
+        //when
+        userPointRepository.findById(1L);
+        UserPoint userPoint = userPointRepository.findById(1L);
+
+        //then
+        UserPointCache.Stats stats = userPointRepository.cacheStats();
+        assertEquals(1000L, userPoint.point());
+        assertEquals(1L, stats.misses());
+        assertEquals(1L, stats.hits());
+    }
+
+    @Test
+    void 저장하면_캐시도_갱신() {
+        //given
+        userPointRepository.findById(1L);
+
+        //when
+        userPointRepository.save(1L, 3000L);
+        UserPoint userPoint = userPointRepository.findById(1L);
+
+        //then
+        assertEquals(3000L, userPoint.point());
+        assertEquals(1L, userPointRepository.cacheStats().hits());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_오래_사용하지_않은_사용자부터_제거() {
+        //given
+        userPointRepository.save(1L, 100L);
+        userPointRepository.save(2L, 200L);
+        userPointRepository.findById(1L);
+
+        //when
+        userPointRepository.save(3L, 300L);
+        userPointRepository.findById(2L);
+
+        //then
+        UserPointCache.Stats stats = userPointRepository.cacheStats();
+        assertEquals(2L, stats.evictions());
+        assertEquals(1L, stats.hits());
+        assertEquals(1L, stats.misses());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void 조회_도중_저장되고_제거된_사용자는_오래된_값으로_채우지_않음() throws Exception {
+        //given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch saved = new CountDownLatch(1);
+        UserPointTableBalanceStore balanceStore = new UserPointTableBalanceStore(userPointTable) {
+            @Override
+            public UserPoint findById(long userId) {
+                UserPoint userPoint = super.findById(userId);
+                if (userId == 1L && reading.getCount() > 0) {
+                    reading.countDown();
+                    await(saved);
+                }
+                return userPoint;
+            }
+        };
+        UserPointRepository repository = new UserPointRepository(balanceStore, 1, PointMetrics.simple());
+        userPointTable.insertOrUpdate(1L, 100L);
+
+        //when
+        Thread reader = new Thread(() -> repository.findById(1L));
+        reader.start();
+        reading.await();
+        repository.save(1L, 500L);
+        repository.save(2L, 200L); // 사용자 1 제거
+        saved.countDown();
+        reader.join();
+
+        //then
+        assertEquals(500L, repository.findById(1L).point());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
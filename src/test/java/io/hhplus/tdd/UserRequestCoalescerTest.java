@@ -0,0 +1,165 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.balance.UserPointRepository;
+import io.hhplus.tdd.point.execution.PointExecutionMode;
+import io.hhplus.tdd.point.execution.PointExecutor;
+import io.hhplus.tdd.point.execution.UserRequestCoalescer;
+import io.hhplus.tdd.point.history.PointHistoryRepository;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.validator.PointValidationException;
+import io.hhplus.tdd.point.validator.PointValidator;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자별 요청 묶음 실행 테스트
+ */
+public class UserRequestCoalescerTest {
+
+    @Test
+    void 처리_중에_들어온_같은_사용자의_요청은_다음_묶음으로_합쳐짐() throws Exception {
+        //given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        UserRequestCoalescer<Integer, Integer> coalescer = new UserRequestCoalescer<>(Executors.newCachedThreadPool(), 100,
+                (userId, batch) -> {
+                    batches.add(batch.stream().map(UserRequestCoalescer.Request::payload).toList());
+                    firstBatchStarted.countDown();
+                    await(releaseFirstBatch);
+                    batch.forEach(request -> request.complete(request.payload() * 10));
+                });
+
+        //when
+        CompletableFuture<Integer> first = coalescer.submit(1L, 0);
+        firstBatchStarted.await();
+        List<CompletableFuture<Integer>> waiting = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            waiting.add(coalescer.submit(1L, i));
+        }
+        releaseFirstBatch.countDown();
+        CompletableFuture.allOf(waiting.toArray(new CompletableFuture[0])).get();
+
+        //then
+        assertEquals(0, first.get().intValue());
+        assertEquals(List.of(List.of(0), List.of(1, 2, 3, 4, 5)), batches);
+        assertEquals(50, waiting.get(4).get().intValue());
+    }
+
+    @Test
+    void 묶음_크기를_넘는_요청은_나누어_처리() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        UserRequestCoalescer<Integer, Integer> coalescer = new UserRequestCoalescer<>(Executors.newCachedThreadPool(), 3,
+                (userId, batch) -> {
+                    await(release);
+                    batchSizes.add(batch.size());
+                    batch.forEach(request -> request.complete(request.payload()));
+                });
+
+        //when
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            futures.add(coalescer.submit(1L, i));
+        }
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        // 마지막 결과를 넘긴 뒤에 정리하므로, 정리가 끝날 때까지 기다립니다.
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (coalescer.size() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        //then
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 3));
+        assertEquals(7, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(0, coalescer.size());
+    }
+
+    @Test
+    void 묶음_처리에서_Error_가_발생해도_요청은_실패로_완료되고_다음_요청은_처리() throws Exception {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        UserRequestCoalescer<Integer, Integer> coalescer = new UserRequestCoalescer<>(Executors.newCachedThreadPool(), 10,
+                (userId, batch) -> {
+                    if (calls.getAndIncrement() == 0) {
+                        throw new AssertionError("복구할 수 없는 오류");
+                    }
+                    batch.forEach(request -> request.complete(request.payload()));
+                });
+
+        //when
+        CompletableFuture<Integer> failed = coalescer.submit(1L, 0);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> next = coalescer.submit(1L, 1);
+
+        //then
+        assertTrue(e.getCause() instanceof AssertionError);
+        assertEquals(1, next.get(5, TimeUnit.SECONDS).intValue());
+    }
+
+    @Test
+    void 묶음_모드에서_같은_사용자의_동시_요청은_각자의_결과를_받고_잔액은_묶음마다_한_번_저장() throws Exception {
+        //given
+        AtomicInteger saves = new AtomicInteger();
+        UserPointTable userPointTable = new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                saves.incrementAndGet();
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        PointExecutor pointExecutor = new PointExecutor(PointExecutionMode.COALESCE);
+        PointService pointService = new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(new PointHistoryTable()), new PointValidator(), new UserLockManager(),
+                pointExecutor, PointMetrics.simple(), PointWriteAheadLog.disabled());
+        int requests = 50;
+
+        //when
+        List<CompletableFuture<UserPoint>> charges = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            charges.add(pointService.chargeAsync(1L, 100L));
+        }
+        CompletableFuture<UserPoint> overdrawn = pointService.useAsync(1L, 1_000_000L);
+        CompletableFuture<UserPoint> use = pointService.useAsync(1L, 300L);
+        CompletableFuture.allOf(charges.toArray(new CompletableFuture[0])).get();
+        use.get();
+        pointExecutor.shutdown();
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, overdrawn::get);
+        assertTrue(e.getCause() instanceof PointValidationException);
+        assertEquals(300L, use.get().point());
+        assertEquals(requests * 100L - 300L, userPointTable.selectById(1L).point());
+        assertEquals(List.of(100L, 5000L), List.of(charges.get(0).get().point(), charges.get(requests - 1).get().point()));
+        assertTrue(saves.get() < requests, "saves = " + saves.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}